@@ -1,11 +1,13 @@
 package com.jipjung.project.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -21,4 +23,76 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * MOLIT 백필 워커 풀
+     * 동시 실행 수는 parallelism으로 제한하고, 계획된 작업은 큐에서 대기
+     */
+    @Bean(name = "molitBackfillExecutor")
+    public Executor molitBackfillExecutor(
+            @Value("${molit.backfill.parallelism:4}") int parallelism,
+            @Value("${molit.backfill.max-tasks:10000}") int maxTasks) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(maxTasks);
+        executor.setThreadNamePrefix("molit-backfill-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 좌표 백필 geocoding 워커 풀
+     * 실제 호출 속도는 Kakao 토큰 버킷(kakao.api.qps)이 제한하며, 큐가 차면 호출 스레드에서 실행
+     */
+    @Bean(name = "geocodeBackfillExecutor")
+    public Executor geocodeBackfillExecutor(
+            @Value("${kakao.api.backfill-parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("geocode-backfill-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대시보드 병렬 조회 풀
+     * 요청별 조회를 fan-out하며, 포화 시 요청 스레드에서 실행하여 순차 조회로 자연스럽게 저하
+     * <p>
+     * 조회마다 읽기 전용 트랜잭션으로 커넥션을 하나씩 잡으므로 작업 스레드 수가 곧 대시보드가 점유하는 커넥션 수입니다.
+     * 다른 API가 커넥션을 기다리지 않도록 커넥션 풀 크기의 1/3 이하로 유지합니다.
+     * (큐가 가득 차 요청 스레드에서 실행되는 조회는 요청당 1개로, 병렬화 이전 순차 조회와 같음)
+     */
+    @Bean(name = "dashboardExecutor")
+    public Executor dashboardExecutor(
+            @Value("${dashboard.loader.parallelism:3}") int parallelism,
+            @Value("${dashboard.loader.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("dashboard-loader-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 사용자 활동 부수 효과(대시보드 스트릭 참여 등) 처리 풀
+     */
+    @Bean(name = "activityEventExecutor")
+    public Executor activityEventExecutor(
+            @Value("${activity.event.parallelism:2}") int parallelism,
+            @Value("${activity.event.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("activity-event-");
+        executor.initialize();
+        return executor;
+    }
 }
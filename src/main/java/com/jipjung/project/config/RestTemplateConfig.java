@@ -1,18 +1,85 @@
 package com.jipjung.project.config;
 
+import com.jipjung.project.external.http.MeteredHttpRequestInterceptor;
+import com.jipjung.project.external.http.OutboundHttpMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
 /**
  * RestTemplate 설정
- * MOLIT API 등 외부 API 호출에 사용
+ * <p>
+ * upstream(MOLIT, Kakao)별로 분리된 클라이언트를 제공합니다.
+ * <ul>
+ *   <li>JDK HttpClient 기반: 커넥션 재사용(keep-alive), HTTP/2 협상 지원
+ *       (idle 커넥션 유지 시간은 JDK 풀 기본값이며 upstream별로 지정할 수 없음,
+ *       필요하면 JVM 시작 옵션 -Djdk.httpclient.keepalive.timeout으로 전체 지정)</li>
+ *   <li>connect/read timeout으로 느린 응답이 워커 스레드를 무기한 점유하지 않도록 제한</li>
+ *   <li>max-connections로 upstream별 동시 요청 수 제한 + 호스트별 지표 기록</li>
+ * </ul>
+ * 테스트에서는 molit.api.base-url / kakao.api.base-url을 로컬 stub 서버 주소로 바꾸고
+ * http.client.*.version=HTTP_1_1로 지정하면 그대로 동작합니다. (RestTemplateConfigStubServerTest 참고)
  */
 @Configuration
+@Slf4j
 public class RestTemplateConfig {
 
+    /**
+     * 국토부 실거래가 API용 RestTemplate
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate molitRestTemplate(
+            OutboundHttpMetrics metrics,
+            @Value("${http.client.molit.max-connections:8}") int maxConnections,
+            @Value("${http.client.molit.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${http.client.molit.read-timeout-ms:15000}") long readTimeoutMs,
+            @Value("${http.client.molit.version:HTTP_2}") HttpClient.Version version) {
+        return createRestTemplate("MOLIT", metrics, maxConnections, connectTimeoutMs, readTimeoutMs, version);
+    }
+
+    /**
+     * Kakao Local API용 RestTemplate
+     */
+    @Bean
+    public RestTemplate kakaoRestTemplate(
+            OutboundHttpMetrics metrics,
+            @Value("${http.client.kakao.max-connections:4}") int maxConnections,
+            @Value("${http.client.kakao.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${http.client.kakao.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${http.client.kakao.version:HTTP_2}") HttpClient.Version version) {
+        return createRestTemplate("Kakao", metrics, maxConnections, connectTimeoutMs, readTimeoutMs, version);
+    }
+
+    private RestTemplate createRestTemplate(String upstream,
+                                            OutboundHttpMetrics metrics,
+                                            int maxConnections,
+                                            long connectTimeoutMs,
+                                            long readTimeoutMs,
+                                            HttpClient.Version version) {
+        Duration connectTimeout = Duration.ofMillis(connectTimeoutMs);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(List.of(
+                new MeteredHttpRequestInterceptor(upstream, maxConnections, connectTimeout, metrics)
+        ));
+
+        log.info("[HTTP] {} client 구성: version={}, maxConnections={}, connectTimeoutMs={}, readTimeoutMs={}",
+                upstream, version, maxConnections, connectTimeoutMs, readTimeoutMs);
+        return restTemplate;
     }
 }
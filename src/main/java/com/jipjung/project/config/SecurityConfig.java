@@ -7,6 +7,8 @@ import com.jipjung.project.config.jwt.filter.JwtAuthenticationFilter;
 import com.jipjung.project.config.jwt.handler.LoginFailureHandler;
 import com.jipjung.project.config.jwt.handler.LoginSuccessHandler;
 import com.jipjung.project.service.LoginService;
+import com.jipjung.project.service.PrincipalCache;
+import com.jipjung.project.service.TokenRevocationList;
 import com.jipjung.project.repository.UserPreferredAreaMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -35,6 +37,8 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final LoginService loginService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
     private final JwtProvider jwtProvider;
     private final ObjectMapper objectMapper;
     private final UserPreferredAreaMapper userPreferredAreaMapper;
@@ -121,7 +125,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtProvider, loginService, objectMapper);
+        return new JwtAuthenticationFilter(jwtProvider, loginService, principalCache, tokenRevocationList, objectMapper);
     }
 
     @Bean
@@ -1,14 +1,22 @@
 package com.jipjung.project.config.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -20,10 +28,32 @@ public class JwtProvider {
     @Value("${jwt.access-token-expiration}")
     private Long accessTokenExpiration;
 
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private int verifiedCacheMaxEntries;
+
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String EMAIL_CLAIM = "email";
     private static final String BEARER = "Bearer ";
 
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    /**
+     * 검증 완료 토큰 캐시 (토큰 전체의 SHA-256 → 디코딩 결과)
+     * 원문 토큰을 키로 보관하지 않으며, 토큰이 한 글자라도 다르면 다이제스트가 달라 적중하지 않습니다.
+     * 상한을 넘으면 만료 항목부터, 그래도 넘으면 임의 항목을 제거합니다 (근사 상한, 한 스레드만 수행).
+     */
+    private final Map<String, DecodedJWT> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private int maxVerifiedTokens;
+
+    @PostConstruct
+    void init() {
+        algorithm = Algorithm.HMAC512(secret);
+        verifier = JWT.require(algorithm).build();
+        maxVerifiedTokens = Math.max(0, verifiedCacheMaxEntries);
+    }
+
     /**
      * JWT Access Token 생성
      */
@@ -31,26 +61,70 @@ public class JwtProvider {
         Date now = new Date();
         return JWT.create()
                 .withSubject(ACCESS_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString())
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpiration))
                 .withClaim(EMAIL_CLAIM, email)
-                .sign(Algorithm.HMAC512(secret));
+                .sign(algorithm);
     }
 
     /**
      * JWT 토큰에서 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        DecodedJWT decodedJWT = verifyToken(token);
+        return getEmail(verifyToken(token));
+    }
+
+    /**
+     * 검증된 토큰에서 이메일 추출
+     */
+    public String getEmail(DecodedJWT decodedJWT) {
         return decodedJWT.getClaim(EMAIL_CLAIM).asString();
     }
 
     /**
      * JWT 토큰 유효성 검증
+     * 같은 토큰이 만료 전까지 반복 검증되므로 검증 결과를 캐시하고, 적중 시에도 만료 시각은 다시 확인합니다.
      */
     public DecodedJWT verifyToken(String token) throws JWTVerificationException {
-        return JWT.require(Algorithm.HMAC512(secret))
-                .build()
-                .verify(token);
+        if (maxVerifiedTokens == 0 || token == null) {
+            return verifier.verify(token);
+        }
+
+        String digest = DigestUtils.sha256Hex(token);
+        DecodedJWT cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+
+        // 만료된 캐시 항목은 verifier가 TokenExpiredException을 던지도록 다시 검증
+        DecodedJWT verified = verifier.verify(token);
+        verifiedTokens.put(digest, verified);
+        evictOverflow();
+        return verified;
+    }
+
+    private void evictOverflow() {
+        if (verifiedTokens.size() <= maxVerifiedTokens || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            verifiedTokens.values().removeIf(this::isExpired);
+            Iterator<DecodedJWT> iterator = verifiedTokens.values().iterator();
+            while (verifiedTokens.size() > maxVerifiedTokens && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean isExpired(DecodedJWT decodedJWT) {
+        Date expiresAt = decodedJWT.getExpiresAt();
+        return expiresAt != null && !expiresAt.after(new Date());
     }
 
     /**
@@ -2,11 +2,14 @@ package com.jipjung.project.config.jwt.filter;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jipjung.project.config.jwt.JwtProvider;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.global.response.ApiResponse;
 import com.jipjung.project.service.LoginService;
+import com.jipjung.project.service.PrincipalCache;
+import com.jipjung.project.service.TokenRevocationList;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +26,8 @@ import java.io.IOException;
 
 /**
  * JWT 토큰을 검증하고 인증 정보를 설정하는 필터
+ * 사용자 principal은 {@link PrincipalCache}를 거쳐 조회하여 요청마다 사용자 조회가 발생하지 않도록 하고,
+ * 로그아웃한 토큰은 {@link TokenRevocationList}(인메모리)로 거부합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -33,6 +38,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final LoginService loginService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -50,19 +57,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             if (token != null) {
-                String email = jwtProvider.getEmailFromToken(token);
+                long startedAt = System.nanoTime();
+                DecodedJWT decodedJWT = jwtProvider.verifyToken(token);
+                if (tokenRevocationList.isRevoked(decodedJWT.getId())) {
+                    log.warn("폐기된 토큰 요청: jti={}", decodedJWT.getId());
+                    writeUnauthorized(response, ErrorCode.INVALID_AUTH_TOKEN);
+                    return;
+                }
+
+                String email = jwtProvider.getEmail(decodedJWT);
 
                 if (email == null || email.isBlank()) {
                     writeUnauthorized(response, ErrorCode.INVALID_AUTH_TOKEN);
                     return;
                 }
 
-                UserDetails userDetails = loginService.loadUserByUsername(email);
+                UserDetails userDetails = principalCache.get(email, () -> loginService.loadUserByUsername(email));
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("인증 성공: {}", email);
+                principalCache.recordAuthentication(System.nanoTime() - startedAt);
+                log.debug("인증 성공: {}", email);
             }
 
             filterChain.doFilter(request, response);
@@ -1,12 +1,29 @@
 package com.jipjung.project.controller;
 
+import com.jipjung.project.controller.dto.request.MolitBackfillRequest;
+import com.jipjung.project.external.http.OutboundHttpMetrics;
+import com.jipjung.project.external.molit.MolitApiClient;
 import com.jipjung.project.global.response.ApiResponse;
+import com.jipjung.project.service.ApartmentDetailCache;
 import com.jipjung.project.service.ApartmentGeocodingService;
 import com.jipjung.project.service.ApartmentSyncService;
+import com.jipjung.project.service.ApartmentWarmupService;
+import com.jipjung.project.service.GeocodeQueueService;
+import com.jipjung.project.service.MolitBackfillService;
+import com.jipjung.project.service.PrincipalCache;
+import com.jipjung.project.service.RegionDictionary;
+import com.jipjung.project.service.RegionPriceStatsService;
+import com.jipjung.project.service.StreakService;
+import com.jipjung.project.service.dto.BackfillProgress;
+import com.jipjung.project.service.dto.DetailCacheStats;
+import com.jipjung.project.service.dto.PrincipalCacheStats;
+import com.jipjung.project.service.dto.StreakParticipationStats;
 import com.jipjung.project.service.dto.SyncResult;
+import com.jipjung.project.service.dto.WarmupStats;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +32,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 관리자 동기화 API
  * MOLIT 실거래 데이터 수동 동기화
@@ -28,6 +47,16 @@ public class AdminSyncController {
 
     private final ApartmentSyncService syncService;
     private final ApartmentGeocodingService geocodingService;
+    private final ApartmentWarmupService warmupService;
+    private final MolitBackfillService backfillService;
+    private final GeocodeQueueService geocodeQueueService;
+    private final MolitApiClient molitApiClient;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final ApartmentDetailCache apartmentDetailCache;
+    private final RegionPriceStatsService regionPriceStatsService;
+    private final RegionDictionary regionDictionary;
+    private final PrincipalCache principalCache;
+    private final StreakService streakService;
 
     /**
      * 초기 동기화 (강남구 + 현재월)
@@ -67,19 +96,85 @@ public class AdminSyncController {
         return ApiResponse.success(result);
     }
 
+    /**
+     * 다지역/다개월 백필 시작 (비동기)
+     * POST /api/admin/sync/backfill
+     */
+    @Operation(summary = "실거래 백필", description = "여러 시군구/거래년월을 워커 풀로 병렬 동기화합니다. 완료 이력이 있는 지역/년월은 건너뜁니다.")
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BackfillProgress>> startBackfill(
+            @Valid @RequestBody MolitBackfillRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin Sync] 백필 요청 by {} - range={}~{}, lawdCds={}, force={}",
+                userDetails != null ? userDetails.getUsername() : "unknown",
+                request.fromYmd(), request.toYmd(),
+                request.lawdCds() != null ? request.lawdCds().size() : "ALL", request.force());
+        return ApiResponse.success(backfillService.start(request));
+    }
+
     /**
      * 동기화 상태 확인
      * GET /api/admin/sync/status
      */
-    @Operation(summary = "동기화 상태 확인", description = "Fallback 활성화 여부 등 상태 확인")
+    @Operation(summary = "동기화 상태 확인", description = "Fallback 활성화 여부/워밍 통계, 백필 진행 상황/처리량, 좌표 보완 대기열 등 상태 확인")
     @GetMapping("/status")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<SyncStatusResponse>> getStatus() {
         return ApiResponse.success(new SyncStatusResponse(
-                syncService.isFallbackEnabled()
+                syncService.isFallbackEnabled(),
+                warmupService.getStats(),
+                backfillService.getProgress(),
+                molitApiClient.getRateLimiter().getPermitsPerSecond(),
+                molitApiClient.getRateLimiter().getAcquiredCount(),
+                geocodeQueueService.countPending()
         ));
     }
 
+    /**
+     * 외부 API 호출 지표 (호스트별 지연시간/진행 중/오류)
+     * GET /api/admin/sync/http-metrics
+     */
+    @Operation(summary = "외부 API 호출 지표", description = "MOLIT/Kakao 호스트별 요청 수, 오류, 진행 중 요청, 지연시간 히스토그램")
+    @GetMapping("/http-metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<OutboundHttpMetrics.HostMetrics>>> getHttpMetrics() {
+        return ApiResponse.success(outboundHttpMetrics.snapshot());
+    }
+
+    /**
+     * 아파트 상세 캐시 통계 (적중률/제거/무효화)
+     * GET /api/admin/sync/detail-cache
+     */
+    @Operation(summary = "상세 캐시 통계", description = "아파트 상세 응답 캐시의 적중률, 용량 초과 제거 수, 동기화 무효화 수")
+    @GetMapping("/detail-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DetailCacheStats>> getDetailCacheStats() {
+        return ApiResponse.success(apartmentDetailCache.getStats());
+    }
+
+    /**
+     * 인증 principal 캐시 통계 (적중률/인증 필터 처리 시간)
+     * GET /api/admin/sync/principal-cache
+     */
+    @Operation(summary = "인증 캐시 통계", description = "JWT 인증 필터의 사용자 캐시 적중률, 무효화 수, 필터 평균/최대 처리 시간")
+    @GetMapping("/principal-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PrincipalCacheStats>> getPrincipalCacheStats() {
+        return ApiResponse.success(principalCache.getStats());
+    }
+
+    /**
+     * 활동 참여 잠금 통계 (사용자 row lock 보유 시간)
+     * GET /api/admin/sync/streak-lock
+     */
+    @Operation(summary = "활동 참여 잠금 통계", description = "스트릭/EXP 활동 기록 시 사용자 row lock 평균/최대 보유 시간과 동시 중복 요청 수")
+    @GetMapping("/streak-lock")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<StreakParticipationStats>> getStreakLockStats() {
+        return ApiResponse.success(streakService.getParticipationStats());
+    }
+
     /**
      * 좌표 백필 실행 (좌표 누락 데이터 보정)
      * POST /api/admin/sync/geocode/backfill?limit=50
@@ -97,6 +192,61 @@ public class AdminSyncController {
         return ApiResponse.success(new GeocodeBackfillResponse(updated));
     }
 
-    public record SyncStatusResponse(boolean fallbackEnabled) {}
+    /**
+     * 최신 거래 projection 재구축
+     * POST /api/admin/sync/latest-deals/rebuild
+     */
+    @Operation(summary = "최신 거래 재구축", description = "아파트별 최신 실거래 projection을 전체 거래 기준으로 다시 생성합니다.")
+    @PostMapping("/latest-deals/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<LatestDealRebuildResponse>> rebuildLatestDeals(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin Sync] 최신 거래 재구축 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        int rebuilt = syncService.rebuildLatestDeals();
+        return ApiResponse.success(new LatestDealRebuildResponse(rebuilt));
+    }
+
+    /**
+     * 지역 시세 통계 재구축
+     * POST /api/admin/sync/region-price-stats/rebuild
+     */
+    @Operation(summary = "지역 시세 통계 재구축", description = "시군구/거래년월별 실거래가 통계(평균, 중위, 사분위)를 전체 거래 기준으로 다시 계산합니다.")
+    @PostMapping("/region-price-stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<RegionPriceStatsRebuildResponse>> rebuildRegionPriceStats(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin Sync] 지역 시세 통계 재구축 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        int rebuilt = regionPriceStatsService.rebuildAll();
+        return ApiResponse.success(new RegionPriceStatsRebuildResponse(rebuilt));
+    }
+
+    /**
+     * 지역 사전 재적재
+     * POST /api/admin/sync/region-dictionary/reload
+     */
+    @Operation(summary = "지역 사전 재적재", description = "법정동코드 테이블을 다시 읽어 인메모리 지역 사전을 교체합니다.")
+    @PostMapping("/region-dictionary/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<RegionDictionaryReloadResponse>> reloadRegionDictionary(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin Sync] 지역 사전 재적재 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        regionDictionary.reload();
+        return ApiResponse.success(new RegionDictionaryReloadResponse(regionDictionary.getAllLawdCds().size()));
+    }
+
+    public record SyncStatusResponse(
+            boolean fallbackEnabled,
+            WarmupStats warmup,
+            BackfillProgress backfill,
+            double molitRateLimitPerSecond,
+            long molitApiRequests,
+            long geocodeQueuePending
+    ) {}
+    public record LatestDealRebuildResponse(int rebuilt) {}
+    public record RegionPriceStatsRebuildResponse(int rebuilt) {}
+    public record RegionDictionaryReloadResponse(int lawdCds) {}
     public record GeocodeBackfillResponse(int updated) {}
 }
@@ -5,6 +5,7 @@ import com.jipjung.project.controller.dto.request.ApartmentSearchRequest;
 import com.jipjung.project.controller.dto.request.FavoriteRequest;
 import com.jipjung.project.controller.dto.response.ApartmentDetailResponse;
 import com.jipjung.project.controller.dto.response.ApartmentListPageResponse;
+import com.jipjung.project.controller.dto.response.ApartmentMapResponse;
 import com.jipjung.project.controller.dto.response.FavoriteResponse;
 import com.jipjung.project.controller.dto.response.RegionCoordinatesResponse;
 import com.jipjung.project.service.ApartmentService;
@@ -52,6 +53,33 @@ public class ApartmentController {
         return ApiResponse.success(result);
     }
 
+    @Operation(
+            summary = "지도 영역 아파트 조회",
+            description = "지도 화면 영역(bbox) 안의 아파트와 최신 실거래가를 조회합니다.\n\n" +
+                    "**bbox**: minLng,minLat,maxLng,maxLat (예: 127.02,37.49,127.06,37.52)\n\n" +
+                    "**클러스터**: 확대 수준이 낮거나 영역 내 아파트가 많으면 clustered=true와 함께 클러스터 목록을 반환"
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ApartmentMapResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "bbox 또는 zoom 값이 올바르지 않음"
+            )
+    })
+    @GetMapping("/map")
+    public ResponseEntity<ApiResponse<ApartmentMapResponse>> getMapApartments(
+            @Parameter(description = "화면 영역 (minLng,minLat,maxLng,maxLat)", example = "127.02,37.49,127.06,37.52")
+            @RequestParam String bbox,
+            @Parameter(description = "확대 수준 (1~21, 클수록 확대)", example = "15")
+            @RequestParam int zoom) {
+        ApartmentMapResponse response = apartmentService.getMapApartments(bbox, zoom);
+        return ApiResponse.success(response);
+    }
+
     @Operation(
             summary = "아파트 상세 조회",
             description = "특정 아파트의 상세 정보와 모든 실거래 이력을 조회합니다."
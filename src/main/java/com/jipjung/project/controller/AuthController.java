@@ -79,7 +79,7 @@ public class AuthController {
     @Operation(
             summary = "로그아웃",
             description = "현재 세션을 로그아웃합니다.\n\n" +
-                    "**참고**: JWT는 Stateless이므로 프론트엔드에서 토큰 삭제를 통해 로그아웃 처리됩니다."
+                    "**참고**: 서버는 토큰 사용자의 인증 캐시를 비우며, 토큰 자체는 프론트엔드에서 삭제해야 합니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -89,9 +89,10 @@ public class AuthController {
             )
     })
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<LogoutResponse>> logout() {
-        // JWT는 Stateless이므로 서버 작업 없음
-        // 프론트엔드에서 토큰 삭제 처리
+    public ResponseEntity<ApiResponse<LogoutResponse>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+        // 인증 캐시 무효화 (토큰 삭제는 프론트엔드에서 처리)
+        authService.logout(authorizationHeader);
         return ApiResponse.success(new LogoutResponse("로그아웃 성공"));
     }
 }
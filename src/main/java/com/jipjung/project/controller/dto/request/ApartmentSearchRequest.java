@@ -41,7 +41,10 @@ public record ApartmentSearchRequest(
         Integer page,
 
         @Schema(description = "페이지 크기", example = "10", defaultValue = "10")
-        Integer size
+        Integer size,
+
+        @Schema(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시 및 전체 개수 생략)", nullable = true)
+        String cursor
 ) {
     public ApartmentSearchRequest {
         // 기본값 설정
@@ -52,6 +55,21 @@ public record ApartmentSearchRequest(
         return (long) page * size;
     }
 
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    /**
+     * 거래 조건(거래일/금액) 지정 여부
+     * 지정되지 않으면 최신 거래 projection(apartment_latest_deal)으로 조회합니다.
+     */
+    public boolean hasDealConditions() {
+        return (dealDateFrom != null && !dealDateFrom.isEmpty())
+                || (dealDateTo != null && !dealDateTo.isEmpty())
+                || minDealAmount != null
+                || maxDealAmount != null;
+    }
+
     public ApartmentSearchRequest withLawdCd(String resolvedLawdCd) {
         return new ApartmentSearchRequest(
                 keyword,
@@ -65,7 +83,8 @@ public record ApartmentSearchRequest(
                 minDealAmount,
                 maxDealAmount,
                 page,
-                size
+                size,
+                cursor
         );
     }
 }
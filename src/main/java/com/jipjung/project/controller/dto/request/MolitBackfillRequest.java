@@ -0,0 +1,31 @@
+package com.jipjung.project.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+/**
+ * MOLIT 실거래 백필 요청 DTO
+ */
+@Schema(description = "MOLIT 실거래 백필 요청")
+public record MolitBackfillRequest(
+
+        @Schema(description = "대상 시군구코드 목록 (비우면 dongcode 전체)", example = "[\"11680\", \"11650\"]")
+        List<@Pattern(regexp = "\\d{5}", message = "시군구코드는 5자리 숫자여야 합니다") String> lawdCds,
+
+        @Schema(description = "시작 거래년월 (YYYYMM)", example = "202401", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "시작 거래년월은 필수입니다")
+        @Pattern(regexp = "\\d{6}", message = "거래년월은 YYYYMM 형식이어야 합니다")
+        String fromYmd,
+
+        @Schema(description = "종료 거래년월 (YYYYMM, 포함)", example = "202412", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "종료 거래년월은 필수입니다")
+        @Pattern(regexp = "\\d{6}", message = "거래년월은 YYYYMM 형식이어야 합니다")
+        String toYmd,
+
+        @Schema(description = "완료 이력이 있어도 다시 동기화할지 여부", example = "false")
+        boolean force
+) {
+}
@@ -12,23 +12,36 @@ public record ApartmentListPageResponse(
         @Schema(description = "현재 페이지의 아파트 목록")
         List<ApartmentListResponse> apartments,
 
-        @Schema(description = "검색 조건에 맞는 전체 아파트 개수", example = "1523")
-        int totalCount,
+        @Schema(description = "검색 조건에 맞는 전체 아파트 개수 (커서 요청 시 생략)", example = "1523", nullable = true)
+        Integer totalCount,
 
-        @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0")
-        int page,
+        @Schema(description = "현재 페이지 번호 (0부터 시작, 커서 요청 시 생략)", example = "0", nullable = true)
+        Integer page,
 
         @Schema(description = "페이지 크기", example = "10")
         int size,
 
-        @Schema(description = "전체 페이지 수", example = "153")
-        int totalPages
+        @Schema(description = "전체 페이지 수 (커서 요청 시 생략)", example = "153", nullable = true)
+        Integer totalPages,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", nullable = true)
+        String nextCursor
 ) {
     public static ApartmentListPageResponse of(List<ApartmentListResponse> apartments,
                                                int totalCount,
                                                int page,
-                                               int size) {
+                                               int size,
+                                               String nextCursor) {
         int totalPages = (int) Math.ceil((double) totalCount / size);
-        return new ApartmentListPageResponse(apartments, totalCount, page, size, totalPages);
+        return new ApartmentListPageResponse(apartments, totalCount, page, size, totalPages, nextCursor);
+    }
+
+    /**
+     * 커서 기반 다음 페이지 응답 (전체 개수 조회 생략)
+     */
+    public static ApartmentListPageResponse ofCursor(List<ApartmentListResponse> apartments,
+                                                     int size,
+                                                     String nextCursor) {
+        return new ApartmentListPageResponse(apartments, null, null, size, null, nextCursor);
     }
 }
@@ -0,0 +1,72 @@
+package com.jipjung.project.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 지도 화면 영역 아파트 조회 응답 DTO
+ * 확대 수준이 낮거나 영역 내 아파트가 많으면 개별 아파트 대신 서버에서 묶은 클러스터를 반환합니다.
+ */
+@Schema(description = "지도 영역 아파트 응답 (개별 아파트 또는 클러스터)")
+public record ApartmentMapResponse(
+        @Schema(description = "요청 확대 수준", example = "15")
+        int zoom,
+
+        @Schema(description = "클러스터 응답 여부 (true면 clusters, false면 apartments 사용)", example = "false")
+        boolean clustered,
+
+        @Schema(description = "영역 내 아파트 수", example = "128")
+        int totalCount,
+
+        @Schema(description = "영역 내 아파트 (clustered=false일 때)")
+        List<Marker> apartments,
+
+        @Schema(description = "영역 내 클러스터 (clustered=true일 때)")
+        List<Cluster> clusters
+) {
+    public static ApartmentMapResponse ofMarkers(int zoom, List<Marker> apartments) {
+        return new ApartmentMapResponse(zoom, false, apartments.size(), apartments, List.of());
+    }
+
+    public static ApartmentMapResponse ofClusters(int zoom, int totalCount, List<Cluster> clusters) {
+        return new ApartmentMapResponse(zoom, true, totalCount, List.of(), clusters);
+    }
+
+    @Schema(description = "지도 아파트 마커 (최신 실거래 1건 포함)")
+    public record Marker(
+            @Schema(description = "아파트 코드", example = "11410-61")
+            String aptSeq,
+
+            @Schema(description = "아파트명", example = "금천현대")
+            String aptNm,
+
+            @Schema(description = "위도", example = "37.5689043")
+            double latitude,
+
+            @Schema(description = "경도", example = "126.9341234")
+            double longitude,
+
+            @Schema(description = "최신 거래금액 (만원)", example = "450000", nullable = true)
+            Long dealAmount,
+
+            @Schema(description = "최신 거래일자 (YYYY-MM-DD)", example = "2024-11-15", nullable = true)
+            LocalDate dealDate
+    ) {}
+
+    @Schema(description = "지도 아파트 클러스터")
+    public record Cluster(
+            @Schema(description = "클러스터 중심 위도 (포함 아파트 평균)", example = "37.5012")
+            double latitude,
+
+            @Schema(description = "클러스터 중심 경도 (포함 아파트 평균)", example = "127.0396")
+            double longitude,
+
+            @Schema(description = "포함 아파트 수", example = "42")
+            int count,
+
+            @Schema(description = "최신 거래금액 평균 (만원, 거래 있는 아파트 기준)", example = "185000", nullable = true)
+            Long avgDealAmount
+    ) {}
+}
@@ -1,10 +1,10 @@
 package com.jipjung.project.controller.dto.response;
 
+import com.jipjung.project.repository.CollectionMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 컬렉션 목록 조회 응답 DTO
@@ -51,59 +51,21 @@ public record CollectionResponse(
         private static final int TOTAL_PHASES = 11;
 
         /**
-         * Map으로부터 InProgressInfo 생성 (Mapper 결과 변환용)
+         * 진행 중 드림홈 요약으로부터 InProgressInfo 생성 (Phase는 XP 기준으로 계산된 값)
          */
-        public static InProgressInfo fromMap(Map<String, Object> map) {
-            if (map == null) return null;
-            
-            Long targetAmount = getLong(map, "target_amount");
-            Long savedAmount = getLong(map, "current_saved_amount");
-            int currentPhase = calculatePhase(savedAmount, targetAmount);
-
-            return new InProgressInfo(
-                    getLong(map, "dream_home_id"),
-                    getString(map, "theme_code"),
-                    getString(map, "property_name"),
-                    getString(map, "location"),
-                    currentPhase,
-                    TOTAL_PHASES
-            );
-        }
-
-        public static InProgressInfo fromMap(Map<String, Object> map, int currentPhase) {
-            if (map == null) return null;
+        public static InProgressInfo of(CollectionMapper.InProgressSummary summary, int currentPhase) {
+            if (summary == null) return null;
             int safePhase = Math.max(1, Math.min(TOTAL_PHASES, currentPhase));
 
             return new InProgressInfo(
-                    getLong(map, "dream_home_id"),
-                    getString(map, "theme_code"),
-                    getString(map, "property_name"),
-                    getString(map, "location"),
+                    summary.dreamHomeId(),
+                    summary.themeCode(),
+                    summary.propertyName(),
+                    summary.location(),
                     safePhase,
                     TOTAL_PHASES
             );
         }
-
-        private static int calculatePhase(Long savedAmount, Long targetAmount) {
-            if (targetAmount == null || targetAmount <= 0) return 1;
-            long saved = savedAmount != null ? savedAmount : 0;
-            double progress = (double) saved / targetAmount;
-            int phase = (int) Math.floor(progress * TOTAL_PHASES) + 1;
-            return Math.max(1, Math.min(TOTAL_PHASES, phase));
-        }
-
-        private static Long getLong(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Long l) return l;
-            if (val instanceof Number n) return n.longValue();
-            return null;
-        }
-
-        private static String getString(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            return val != null ? val.toString() : null;
-        }
     }
 
     /**
@@ -152,60 +114,24 @@ public record CollectionResponse(
     ) {
 
         /**
-         * Map으로부터 CollectionItem 생성 (Mapper 결과 변환용)
+         * 컬렉션 조회 결과로부터 CollectionItem 생성
          */
-        public static CollectionItem fromMap(Map<String, Object> map) {
+        public static CollectionItem from(CollectionMapper.CollectionRow row) {
             return new CollectionItem(
-                    getLong(map, "collection_id"),
-                    getInt(map, "theme_id"),
-                    getString(map, "theme_name"),
-                    getString(map, "theme_code"),
-                    getLong(map, "dream_home_id"),
-                    getString(map, "property_name"),
-                    getString(map, "location"),
-                    getLong(map, "target_amount"),
-                    getInt(map, "saving_period_days"),
-                    getLocalDateTime(map, "completed_at"),
-                    getBoolean(map, "is_main_display"),
-                    getLong(map, "total_saved"),
-                    getString(map, "house_name")
+                    row.collectionId(),
+                    row.themeId(),
+                    row.themeName(),
+                    row.themeCode(),
+                    row.dreamHomeId(),
+                    row.propertyName(),
+                    row.location(),
+                    row.targetAmount(),
+                    row.savingPeriodDays(),
+                    row.completedAt(),
+                    row.isMainDisplay(),
+                    row.totalSaved(),
+                    row.houseName()
             );
         }
-
-        private static Long getLong(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Long l) return l;
-            if (val instanceof Number n) return n.longValue();
-            return null;
-        }
-
-        private static Integer getInt(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Integer i) return i;
-            if (val instanceof Number n) return n.intValue();
-            return null;
-        }
-
-        private static String getString(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            return val != null ? val.toString() : null;
-        }
-
-        private static Boolean getBoolean(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Boolean b) return b;
-            if (val instanceof Number n) return n.intValue() != 0;
-            return null;
-        }
-
-        private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val instanceof LocalDateTime ldt) return ldt;
-            if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
-            return null;
-        }
     }
 }
@@ -0,0 +1,36 @@
+package com.jipjung.project.domain;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주소 geocoding 결과 캐시 도메인
+ * <p>
+ * 정규화된 주소 문자열을 키로 Kakao geocoding 결과를 보관합니다.
+ * 좌표를 찾지 못한 결과(found = false)도 짧은 TTL로 저장하여 같은 주소를 반복 조회하지 않습니다.
+ *
+ * @see com.jipjung.project.service.GeocodeCacheService
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodeCache {
+
+    private String addressKey;
+    private Boolean found;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+
+    public boolean hasCoordinates() {
+        return Boolean.TRUE.equals(found) && latitude != null && longitude != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
@@ -59,6 +59,8 @@ public class User {
     private LocalDate lastStreakDate;
     private Integer maxStreak;
     private Integer selectedThemeId;
+    private Integer dailyExp;                 // dailyExpDate의 활동 EXP 합계 (일일 상한 판정용)
+    private LocalDate dailyExpDate;
 
     // 인테리어 진행 상태 (Phase 2: 집 완공 후 가구 배치)
     private String buildTrack;       // "house" 또는 "furniture"
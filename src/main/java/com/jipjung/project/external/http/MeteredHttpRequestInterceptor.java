@@ -0,0 +1,124 @@
+package com.jipjung.project.external.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API 호출 인터셉터
+ * <p>
+ * upstream별 동시 요청 수를 pool 크기로 제한하고, 호스트별 지연시간/진행 중 요청/오류를 기록합니다.
+ * 한도 초과 시 acquireTimeout 동안 대기 후 실패시켜 호출 스레드가 무기한 묶이지 않도록 합니다.
+ */
+@Slf4j
+public class MeteredHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String upstream;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final OutboundHttpMetrics metrics;
+
+    public MeteredHttpRequestInterceptor(String upstream, int maxConcurrent, Duration acquireTimeout,
+                                         OutboundHttpMetrics metrics) {
+        this.upstream = upstream;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+        this.acquireTimeout = acquireTimeout;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        acquire(host);
+
+        metrics.onStart(host);
+        long startedAt = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            // 본문 스트리밍이 끝나고 close될 때까지를 한 요청으로 기록
+            return new MeteredResponse(response, host, startedAt, response.getStatusCode().isError());
+        } catch (IOException | RuntimeException e) {
+            complete(host, startedAt, true);
+            throw e;
+        }
+    }
+
+    private void complete(String host, long startedAt, boolean error) {
+        metrics.onComplete(host, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), error);
+        permits.release();
+    }
+
+    private void acquire(String host) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                metrics.onRejected(host);
+                log.warn("[HTTP] {} 동시 요청 한도 초과 - 요청 거절 (host={})", upstream, host);
+                throw new IOException(upstream + " 동시 요청 한도 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(upstream + " 요청 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * close 시점에 지표 기록/permit 반환하는 응답 래퍼
+     */
+    private final class MeteredResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final String host;
+        private final long startedAt;
+        private final boolean error;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private MeteredResponse(ClientHttpResponse delegate, String host, long startedAt, boolean error) {
+            this.delegate = delegate;
+            this.host = host;
+            this.startedAt = startedAt;
+            this.error = error;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    complete(host, startedAt, error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jipjung.project.external.http;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출 지표 (호스트별)
+ * <p>
+ * 요청 수, 오류 수, 현재 진행 중 요청 수, 지연시간 히스토그램을 누적하며
+ * 관리자 API로 스냅샷을 조회합니다.
+ */
+@Component
+public class OutboundHttpMetrics {
+
+    /** 지연시간 히스토그램 상한 (ms, 마지막 버킷은 초과분) */
+    private static final long[] LATENCY_BUCKETS_MS = {50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000};
+
+    private final Map<String, HostStats> statsByHost = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 시작 (in-flight 증가)
+     */
+    public void onStart(String host) {
+        stats(host).inFlight.incrementAndGet();
+    }
+
+    /**
+     * 요청 종료 기록
+     *
+     * @param host      대상 호스트
+     * @param elapsedMs 소요 시간 (ms)
+     * @param error     실패 여부 (I/O 오류, 4xx/5xx 응답)
+     */
+    public void onComplete(String host, long elapsedMs, boolean error) {
+        HostStats stats = stats(host);
+        stats.inFlight.decrementAndGet();
+        stats.requests.increment();
+        stats.totalLatencyMs.add(elapsedMs);
+        stats.buckets[bucketIndex(elapsedMs)].increment();
+        if (error) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * 요청 거절 기록 (동시 요청 한도 초과)
+     */
+    public void onRejected(String host) {
+        stats(host).rejected.increment();
+    }
+
+    /**
+     * 호스트별 지표 스냅샷
+     */
+    public List<HostMetrics> snapshot() {
+        return statsByHost.entrySet().stream()
+                .map(entry -> entry.getValue().toMetrics(entry.getKey()))
+                .sorted(Comparator.comparing(HostMetrics::host))
+                .toList();
+    }
+
+    private HostStats stats(String host) {
+        return statsByHost.computeIfAbsent(host != null ? host : "unknown", key -> new HostStats());
+    }
+
+    private static int bucketIndex(long elapsedMs) {
+        for (int i = 0; i < LATENCY_BUCKETS_MS.length; i++) {
+            if (elapsedMs <= LATENCY_BUCKETS_MS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKETS_MS.length;
+    }
+
+    private static final class HostStats {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalLatencyMs = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS_MS.length + 1];
+
+        private HostStats() {
+            Arrays.setAll(buckets, i -> new LongAdder());
+        }
+
+        private HostMetrics toMetrics(String host) {
+            long requestCount = requests.sum();
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < buckets.length; i++) {
+                String label = i < LATENCY_BUCKETS_MS.length
+                        ? "le_" + LATENCY_BUCKETS_MS[i] + "ms"
+                        : "gt_" + LATENCY_BUCKETS_MS[LATENCY_BUCKETS_MS.length - 1] + "ms";
+                histogram.put(label, buckets[i].sum());
+            }
+            return new HostMetrics(
+                    host,
+                    requestCount,
+                    errors.sum(),
+                    rejected.sum(),
+                    inFlight.get(),
+                    requestCount > 0 ? (double) totalLatencyMs.sum() / requestCount : 0,
+                    histogram
+            );
+        }
+    }
+
+    /**
+     * 호스트별 지표
+     *
+     * @param host             대상 호스트
+     * @param requests         완료된 요청 수
+     * @param errors           실패 요청 수 (I/O 오류, 4xx/5xx)
+     * @param rejected         동시 요청 한도 초과로 거절된 수
+     * @param inFlight         현재 진행 중인 요청 수
+     * @param averageLatencyMs 평균 지연시간 (ms)
+     * @param latencyHistogram 지연시간 버킷별 요청 수
+     */
+    public record HostMetrics(
+            String host,
+            long requests,
+            long errors,
+            long rejected,
+            int inFlight,
+            double averageLatencyMs,
+            Map<String, Long> latencyHistogram
+    ) {}
+}
@@ -0,0 +1,89 @@
+package com.jipjung.project.external.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * lock-free 토큰 버킷 Rate Limiter (GCRA 방식)
+ * <p>
+ * 다음 토큰 발급 시각 하나만 CAS로 갱신하므로 호출 스레드끼리 락 경합이 없습니다.
+ * {@link #reserve()}는 대기 없이 예약만 하고 기다려야 할 시간을 반환하며,
+ * {@link #tryAcquire()}는 즉시 가능한 경우에만 토큰을 가져갑니다.
+ * 외부 API 클라이언트(MOLIT, Kakao)가 각자 설정값으로 인스턴스를 하나씩 만들어 해당 API의 모든 호출이 공유합니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerSecond;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextFreeNanos;
+    private final LongAdder acquiredCount = new LongAdder();
+
+    /**
+     * @param permitsPerSecond 초당 허용 요청 수
+     * @param burst            유휴 후 즉시 허용할 최대 요청 수
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = Math.max(0.1, permitsPerSecond);
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / this.permitsPerSecond);
+        this.burstNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.nextFreeNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 토큰 1개 예약
+     *
+     * @return 토큰을 사용할 수 있을 때까지 남은 시간 (ns, 0이면 즉시)
+     */
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            long start = Math.max(next, now - burstNanos);
+            if (nextFreeNanos.compareAndSet(next, start + intervalNanos)) {
+                acquiredCount.increment();
+                return Math.max(0, start - now);
+            }
+        }
+    }
+
+    /**
+     * 즉시 사용 가능한 토큰이 있으면 획득
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            long start = Math.max(next, now - burstNanos);
+            if (start > now) {
+                return false;
+            }
+            if (nextFreeNanos.compareAndSet(next, start + intervalNanos)) {
+                acquiredCount.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 토큰 예약 후 사용 가능 시각까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 누적 토큰 발급 수 (상태 조회용)
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
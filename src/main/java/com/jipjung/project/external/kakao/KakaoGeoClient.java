@@ -1,9 +1,10 @@
 package com.jipjung.project.external.kakao;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jipjung.project.external.http.TokenBucketRateLimiter;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -23,7 +24,6 @@ import java.util.Optional;
  * Kakao Local API geocoding client
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class KakaoGeoClient {
 
@@ -36,11 +36,19 @@ public class KakaoGeoClient {
     @Value("${kakao.api.enabled:true}")
     private boolean enabled;
 
-    @Value("${kakao.api.rate-limit-ms:120}")
-    private long rateLimitMs;
-
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public KakaoGeoClient(@Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${kakao.api.qps:8}") double qps,
+                          @Value("${kakao.api.rate-limit-burst:1}") int burst) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        // 호출 후 고정 sleep 대신 공용 토큰 버킷으로 전체 QPS 제한 (동시 워커 공유)
+        this.rateLimiter = new TokenBucketRateLimiter(qps, burst);
+    }
 
     @PostConstruct
     void logKeyStatus() {
@@ -51,20 +59,36 @@ public class KakaoGeoClient {
         log.info("[Kakao Geo] REST API key loaded (len={}, enabled={})", restKey.length(), enabled);
     }
 
+    /**
+     * geocoding 호출 가능 여부 (활성화 + REST 키 설정)
+     */
+    public boolean isEnabled() {
+        return enabled && restKey != null && !restKey.isBlank();
+    }
+
     public Optional<KakaoCoordinates> geocode(String address) {
+        return Optional.ofNullable(lookup(address).coordinates());
+    }
+
+    /**
+     * 주소 geocoding (결과 상태 포함)
+     * FOUND/NOT_FOUND는 Kakao가 확정 응답한 결과로 캐시 가능하며, FAILED는 재시도 대상입니다.
+     */
+    public GeocodeResult lookup(String address) {
         if (!enabled) {
             log.debug("[Kakao Geo] Disabled - skip (address={})", address);
-            return Optional.empty();
+            return GeocodeResult.failed();
         }
         if (restKey == null || restKey.isBlank()) {
             log.warn("[Kakao Geo] REST API key is missing. Geocoding skipped.");
-            return Optional.empty();
+            return GeocodeResult.failed();
         }
         if (address == null || address.isBlank()) {
-            return Optional.empty();
+            return GeocodeResult.failed();
         }
 
         try {
+            rateLimiter.acquire();
             URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
                     .queryParam("query", address)
                     .queryParam("size", 1)
@@ -80,14 +104,14 @@ public class KakaoGeoClient {
             String body = response.getBody();
             if (body == null || body.isBlank()) {
                 log.warn("[Kakao Geo] Empty response (address={})", address);
-                return Optional.empty();
+                return GeocodeResult.failed();
             }
 
             KakaoAddressResponse parsed = objectMapper.readValue(body, KakaoAddressResponse.class);
             List<KakaoAddressResponse.Document> documents = parsed.getDocuments();
             if (documents == null || documents.isEmpty()) {
                 log.info("[Kakao Geo] No geocode result (address={})", address);
-                return Optional.empty();
+                return GeocodeResult.notFound();
             }
 
             KakaoAddressResponse.Document doc = documents.get(0);
@@ -95,15 +119,17 @@ public class KakaoGeoClient {
             BigDecimal latitude = parseDecimal(doc.getY());
             if (latitude == null || longitude == null) {
                 log.warn("[Kakao Geo] Failed to parse coordinates (address={})", address);
-                return Optional.empty();
+                return GeocodeResult.notFound();
             }
 
-            return Optional.of(new KakaoCoordinates(latitude, longitude));
+            return GeocodeResult.found(new KakaoCoordinates(latitude, longitude));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Kakao Geo] Interrupted (address={})", address);
+            return GeocodeResult.failed();
         } catch (Exception e) {
             log.warn("[Kakao Geo] Geocoding failed (address={}, error={})", address, e.getMessage());
-            return Optional.empty();
-        } finally {
-            throttle();
+            return GeocodeResult.failed();
         }
     }
 
@@ -114,16 +140,35 @@ public class KakaoGeoClient {
         return new BigDecimal(value.trim());
     }
 
-    private void throttle() {
-        if (rateLimitMs <= 0) {
-            return;
+    public record KakaoCoordinates(BigDecimal latitude, BigDecimal longitude) {}
+
+    public enum GeocodeStatus { FOUND, NOT_FOUND, FAILED }
+
+    /**
+     * Geocoding 결과
+     *
+     * @param status      결과 상태
+     * @param coordinates 좌표 (FOUND일 때만 존재)
+     */
+    public record GeocodeResult(GeocodeStatus status, KakaoCoordinates coordinates) {
+
+        public static GeocodeResult found(KakaoCoordinates coordinates) {
+            return new GeocodeResult(GeocodeStatus.FOUND, coordinates);
         }
-        try {
-            Thread.sleep(rateLimitMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+
+        public static GeocodeResult notFound() {
+            return new GeocodeResult(GeocodeStatus.NOT_FOUND, null);
         }
-    }
 
-    public record KakaoCoordinates(BigDecimal latitude, BigDecimal longitude) {}
+        public static GeocodeResult failed() {
+            return new GeocodeResult(GeocodeStatus.FAILED, null);
+        }
+
+        /**
+         * Kakao가 확정 응답한 결과인지 (캐시 대상)
+         */
+        public boolean isDefinitive() {
+            return status != GeocodeStatus.FAILED;
+        }
+    }
 }
@@ -2,14 +2,23 @@ package com.jipjung.project.external.molit;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jipjung.project.external.http.TokenBucketRateLimiter;
 import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
 import java.io.StringReader;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -20,15 +29,18 @@ import jakarta.annotation.PostConstruct;
 
 /**
  * 국토부 실거래가 API 클라이언트
- * 페이징 처리 및 Rate Limiting 적용
+ * 페이징 처리 및 Rate Limiting 적용 (페이지 요청/Fallback 워밍/백필 워커가 하나의 토큰 버킷 공유)
+ * XML 응답은 기본적으로 StAX 스트리밍 파싱, 비활성화 시 캐시된 JAXBContext로 파싱
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class MolitApiClient {
 
     private static final int DEFAULT_NUM_OF_ROWS = 100;
-    private static final long RATE_LIMIT_DELAY_MS = 100;  // 초당 10회 제한 대응
+    private static final int MAX_NOISE_PREFIX_LENGTH = 60;
+    private static final int UTF8_BOM_FIRST = 0xEF;
+    private static final int UTF8_BOM_SECOND = 0xBB;
+    private static final int UTF8_BOM_THIRD = 0xBF;
 
     @Value("${molit.api.key}")
     private String apiKey;
@@ -39,8 +51,25 @@ public class MolitApiClient {
     @Value("${molit.api.key-encoded:true}")
     private boolean keyEncoded;
 
+    @Value("${molit.api.streaming-parser-enabled:true}")
+    private boolean streamingParserEnabled;
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MolitXmlStreamParser xmlStreamParser;
+
+    public MolitApiClient(@Qualifier("molitRestTemplate") RestTemplate restTemplate,
+                          ObjectMapper objectMapper,
+                          MolitXmlStreamParser xmlStreamParser,
+                          @Value("${molit.api.rate-limit-per-second:10}") double permitsPerSecond,
+                          @Value("${molit.api.rate-limit-burst:1}") int burst) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.xmlStreamParser = xmlStreamParser;
+        // 워커 수와 관계없이 모든 MOLIT 호출의 초당 호출 수 제한
+        this.rateLimiter = new TokenBucketRateLimiter(permitsPerSecond, burst);
+    }
 
     @PostConstruct
     void logKeyStatus() {
@@ -51,6 +80,13 @@ public class MolitApiClient {
         log.info("[MOLIT API] serviceKey 로드됨 (len={}, encoded={})", apiKey.length(), keyEncoded);
     }
 
+    /**
+     * MOLIT 호출 공용 토큰 버킷 (상태 조회용)
+     */
+    public TokenBucketRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
     /**
      * 지역/년월 기준 실거래 데이터 조회
      * 자동 페이징으로 전체 데이터 수집
@@ -67,15 +103,15 @@ public class MolitApiClient {
 
         while (true) {
             try {
+                rateLimiter.acquire();  // 공용 토큰 버킷 (초당 호출 수 제한)
                 URI uri = buildUri(lawdCd, dealYmd, pageNo, DEFAULT_NUM_OF_ROWS);
                 log.info("[MOLIT API] 요청 파라미터: lawdCd={}, dealYmd={}, page={}, rows={}", lawdCd, dealYmd, pageNo, DEFAULT_NUM_OF_ROWS);
 
-                String xml = restTemplate.getForObject(uri, String.class);
-                if (xml == null || xml.isBlank()) {
+                MolitApiResponse response = fetchPage(uri);
+                if (response == null) {
                     log.warn("[MOLIT API] 빈 응답: page={}", pageNo);
                     break;
                 }
-                MolitApiResponse response = parseXml(xml);
 
                 if (!response.isSuccess()) {
                     log.warn("[MOLIT API] 오류 응답: {}", response.getErrorMessage());
@@ -97,7 +133,6 @@ public class MolitApiClient {
                 }
 
                 pageNo++;
-                Thread.sleep(RATE_LIMIT_DELAY_MS);
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -118,13 +153,10 @@ public class MolitApiClient {
      */
     public boolean isHealthy() {
         try {
+            rateLimiter.acquire();
             URI uri = buildUri("11680", "202412", 1, 1);
-            String xml = restTemplate.getForObject(uri, String.class);
-            if (xml == null || xml.isBlank()) {
-                return false;
-            }
-            MolitApiResponse response = parseXml(xml);
-            return response.isSuccess();
+            MolitApiResponse response = fetchPage(uri);
+            return response != null && response.isSuccess();
         } catch (Exception e) {
             log.warn("[MOLIT API] 헬스체크 실패: {}", e.getMessage());
             return false;
@@ -132,7 +164,91 @@ public class MolitApiClient {
     }
 
     /**
-     * XML 응답 파싱
+     * 페이지 1건 조회
+     *
+     * @return 파싱된 응답 (본문이 비어 있으면 null)
+     */
+    private MolitApiResponse fetchPage(URI uri) throws Exception {
+        if (streamingParserEnabled) {
+            return restTemplate.execute(uri, HttpMethod.GET, null, this::readStreaming);
+        }
+        String xml = restTemplate.getForObject(uri, String.class);
+        if (xml == null || xml.isBlank()) {
+            return null;
+        }
+        return parseXml(xml);
+    }
+
+    /**
+     * 응답 스트림을 버퍼링 없이 파싱
+     * BOM/공백/XML 앞 잡음은 건너뛰고, JSON 응답이면 JSON 파서로 위임
+     */
+    private MolitApiResponse readStreaming(ClientHttpResponse response) throws IOException {
+        PushbackInputStream body = new PushbackInputStream(new BufferedInputStream(response.getBody()), 1);
+        int first = skipToContent(body);
+        if (first < 0) {
+            return null;
+        }
+        body.unread(first);
+
+        if (first == '{') {
+            return parseJsonOrThrow(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try {
+            return xmlStreamParser.parse(body);
+        } catch (XMLStreamException e) {
+            log.error("[MOLIT API] XML 스트림 파싱 실패: {}", e.getMessage());
+            throw new IOException("MOLIT API XML 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 본문 시작 위치까지 이동 ('<' 또는 '{' 반환, 본문이 없으면 -1)
+     */
+    private int skipToContent(PushbackInputStream body) throws IOException {
+        ByteArrayOutputStream noise = new ByteArrayOutputStream();
+        int b;
+        while ((b = body.read()) >= 0) {
+            if (b == '<' || (b == '{' && noise.size() == 0)) {
+                break;
+            }
+            boolean ignorable = Character.isWhitespace(b)
+                    || b == UTF8_BOM_FIRST || b == UTF8_BOM_SECOND || b == UTF8_BOM_THIRD;
+            if (!ignorable || noise.size() > 0) {
+                noise.write(b);
+            }
+        }
+        if (noise.size() > 0) {
+            String prefix = noiseSnippet(noise);
+            if (b < 0) {
+                log.error("[MOLIT API] XML 시작 문자가 아님 (snippet=\"{}\")", prefix);
+                throw new IOException("MOLIT API 응답이 XML이 아닙니다.");
+            }
+            log.warn("[MOLIT API] XML 시작 전 잡음 제거: \"{}\"", prefix);
+        }
+        return b;
+    }
+
+    private String noiseSnippet(ByteArrayOutputStream noise) {
+        String text = noise.toString(StandardCharsets.UTF_8);
+        return text.substring(0, Math.min(MAX_NOISE_PREFIX_LENGTH, text.length()))
+                .replace("\n", " ")
+                .replace("\r", " ")
+                .replace("\t", " ");
+    }
+
+    private MolitApiResponse parseJsonOrThrow(String json) throws IOException {
+        try {
+            return parseJson(json);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * XML 응답 파싱 (문자열 버퍼링 경로, 스트리밍 비활성화 시 사용)
      */
     private MolitApiResponse parseXml(String xml) throws Exception {
         String sanitized = sanitizeXml(xml);
@@ -148,8 +264,7 @@ public class MolitApiClient {
             throw new IllegalStateException("MOLIT API 응답이 XML이 아닙니다.");
         }
         try {
-            JAXBContext context = JAXBContext.newInstance(MolitApiResponse.class);
-            Unmarshaller unmarshaller = context.createUnmarshaller();
+            Unmarshaller unmarshaller = JaxbContextHolder.CONTEXT.createUnmarshaller();
             return (MolitApiResponse) unmarshaller.unmarshal(new StringReader(sanitized));
         } catch (Exception e) {
             String snippet = sanitized.substring(0, Math.min(300, sanitized.length()))
@@ -204,4 +319,19 @@ public class MolitApiClient {
                 + "&numOfRows=" + numOfRows;
         return URI.create(url);
     }
+
+    /**
+     * JAXBContext는 생성 비용이 크고 thread-safe하므로 최초 사용 시 1회만 생성
+     */
+    private static final class JaxbContextHolder {
+        private static final JAXBContext CONTEXT = create();
+
+        private static JAXBContext create() {
+            try {
+                return JAXBContext.newInstance(MolitApiResponse.class);
+            } catch (JAXBException e) {
+                throw new IllegalStateException("MolitApiResponse JAXBContext 생성 실패", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,175 @@
+package com.jipjung.project.external.molit;
+
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 국토부 실거래가 API XML 스트리밍(StAX) 파서
+ * <p>
+ * HTTP 응답 스트림에서 {@code <item>} 요소를 바로 {@link MolitDealResponse}로 읽어,
+ * 응답 전체를 String으로 버퍼링하고 JAXB 객체 그래프를 만드는 비용을 줄입니다.
+ * 결과는 기존 호출부와 호환되도록 {@link MolitApiResponse} 형태로 반환합니다.
+ */
+@Component
+public class MolitXmlStreamParser {
+
+    private final XMLInputFactory inputFactory;
+
+    public MolitXmlStreamParser() {
+        this.inputFactory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 비활성화 (XXE 방지)
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * XML 응답 스트림 파싱
+     *
+     * @param in '<'로 시작하는 XML 스트림 (인코딩은 XML 선언 기준으로 판별)
+     * @return 헤더/바디/거래 목록이 채워진 응답
+     */
+    public MolitApiResponse parse(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+        try {
+            return readResponse(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private MolitApiResponse readResponse(XMLStreamReader reader) throws XMLStreamException {
+        MolitApiResponse response = new MolitApiResponse();
+        MolitApiResponse.Header header = null;
+        MolitApiResponse.Body body = null;
+        List<MolitDealResponse> items = null;
+
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "header" -> header = new MolitApiResponse.Header();
+                case "body" -> body = new MolitApiResponse.Body();
+                case "items" -> items = new ArrayList<>();
+                case "resultCode" -> {
+                    header = header != null ? header : new MolitApiResponse.Header();
+                    header.setResultCode(reader.getElementText());
+                }
+                case "resultMsg" -> {
+                    header = header != null ? header : new MolitApiResponse.Header();
+                    header.setResultMsg(reader.getElementText());
+                }
+                case "totalCount" -> {
+                    body = body != null ? body : new MolitApiResponse.Body();
+                    body.setTotalCount(parseInt(reader.getElementText()));
+                }
+                case "numOfRows" -> {
+                    body = body != null ? body : new MolitApiResponse.Body();
+                    body.setNumOfRows(parseInt(reader.getElementText()));
+                }
+                case "pageNo" -> {
+                    body = body != null ? body : new MolitApiResponse.Body();
+                    body.setPageNo(parseInt(reader.getElementText()));
+                }
+                case "item" -> {
+                    items = items != null ? items : new ArrayList<>();
+                    items.add(readItem(reader));
+                }
+                default -> {
+                    // response 등 컨테이너 요소는 하위 요소를 계속 순회
+                }
+            }
+        }
+
+        response.setHeader(header);
+        if (items != null) {
+            body = body != null ? body : new MolitApiResponse.Body();
+            MolitApiResponse.Items wrapper = new MolitApiResponse.Items();
+            wrapper.setItem(items);
+            body.setItems(wrapper);
+        }
+        response.setBody(body);
+        return response;
+    }
+
+    /**
+     * {@code <item>} 하위 요소를 거래 DTO로 매핑 (reader는 item 종료 태그에서 멈춤)
+     */
+    private MolitDealResponse readItem(XMLStreamReader reader) throws XMLStreamException {
+        MolitDealResponse deal = new MolitDealResponse();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return deal;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            String name = reader.getLocalName();
+            if (!setField(deal, name, reader)) {
+                skipElement(reader);
+            }
+        }
+        return deal;
+    }
+
+    private boolean setField(MolitDealResponse deal, String name, XMLStreamReader reader) throws XMLStreamException {
+        switch (name) {
+            case "sggCd" -> deal.setSggCd(reader.getElementText());
+            case "umdNm" -> deal.setUmdNm(reader.getElementText());
+            case "aptNm" -> deal.setAptNm(reader.getElementText());
+            case "jibun" -> deal.setJibun(reader.getElementText());
+            case "excluUseAr" -> deal.setExcluUseAr(reader.getElementText());
+            case "dealYear" -> deal.setDealYear(reader.getElementText());
+            case "dealMonth" -> deal.setDealMonth(reader.getElementText());
+            case "dealDay" -> deal.setDealDay(reader.getElementText());
+            case "dealAmount" -> deal.setDealAmount(reader.getElementText());
+            case "floor" -> deal.setFloor(reader.getElementText());
+            case "buildYear" -> deal.setBuildYear(reader.getElementText());
+            case "aptDong" -> deal.setAptDong(reader.getElementText());
+            case "cdealType" -> deal.setCdealType(reader.getElementText());
+            case "cdealDay" -> deal.setCdealDay(reader.getElementText());
+            case "dealingGbn" -> deal.setDealingGbn(reader.getElementText());
+            case "estateAgentSggNm" -> deal.setEstateAgentSggNm(reader.getElementText());
+            case "rgstDate" -> deal.setRgstDate(reader.getElementText());
+            case "slerGbn" -> deal.setSlerGbn(reader.getElementText());
+            case "buyerGbn" -> deal.setBuyerGbn(reader.getElementText());
+            case "landLeaseholdGbn" -> deal.setLandLeaseholdGbn(reader.getElementText());
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 매핑하지 않는 요소는 하위 요소까지 건너뜀
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
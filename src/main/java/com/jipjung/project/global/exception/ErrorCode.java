@@ -12,6 +12,7 @@ public enum ErrorCode {
     INVALID_TYPE_VALUE(400, "잘못된 타입입니다"),
     INVALID_PASSWORD(400, "비밀번호가 일치하지 않습니다"),
     AI_CONVERSATION_INVALID_STATUS(400, "잘못된 대화 상태입니다"),
+    SYNC_ADMIN_DISABLED(400, "관리자 동기화가 비활성화되어 있습니다"),
 
     // 401 Unauthorized
     UNAUTHORIZED(401, "인증이 필요합니다"),
@@ -42,6 +43,7 @@ public enum ErrorCode {
     // 409 Conflict
     DUPLICATE_EMAIL(409, "이미 존재하는 이메일입니다"),
     DUPLICATE_FAVORITE(409, "이미 관심 아파트로 등록되어 있습니다"),
+    SYNC_BACKFILL_ALREADY_RUNNING(409, "이미 실행 중인 백필 작업이 있습니다"),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(500, "서버 내부 오류가 발생했습니다"),
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -69,9 +70,26 @@ public interface AiConversationMapper {
     /**
      * 판결 완료 대화 이벤트 조회 (기간 필터)
      */
-    List<java.util.Map<String, Object>> findJudgedEventsByUserIdAndDateRange(
+    List<JudgedEvent> findJudgedEventsByUserIdAndDateRange(
         @Param("userId") Long userId,
-        @Param("startAt") java.time.LocalDateTime startAt,
-        @Param("endAt") java.time.LocalDateTime endAt
+        @Param("startAt") LocalDateTime startAt,
+        @Param("endAt") LocalDateTime endAt
     );
+
+    /**
+     * 판결 완료 대화 이벤트
+     *
+     * @param conversationId 대화 ID
+     * @param judgmentResult 판결 결과
+     * @param judgmentScore  판결 점수
+     * @param expChange      실제 반영된 경험치 변화량
+     * @param updatedAt      판결 시각
+     */
+    record JudgedEvent(
+        Long conversationId,
+        String judgmentResult,
+        Integer judgmentScore,
+        Integer expChange,
+        LocalDateTime updatedAt
+    ) {}
 }
@@ -0,0 +1,117 @@
+package com.jipjung.project.repository;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+/**
+ * 아파트별 최신 실거래 projection Mapper
+ * 목록 검색에서 apartment_deal 전체 윈도우 연산 대신 조인용으로 사용
+ */
+@Mapper
+public interface ApartmentLatestDealMapper {
+
+    /**
+     * 특정 아파트의 최신 거래 1건으로 projection 갱신 (Upsert)
+     * 거래 insert 직후 호출하며, uk_deal_unique(apt_seq, ...) 인덱스로 해당 아파트 거래만 조회
+     *
+     * @param aptSeq 아파트코드
+     * @return 영향받은 행 수
+     */
+    @Insert("""
+        INSERT INTO apartment_latest_deal (apt_seq, deal_no, deal_date, deal_amount_num, exclu_use_ar, floor)
+        SELECT ad.apt_seq, ad.deal_no, ad.deal_date, ad.deal_amount_num, ad.exclu_use_ar, ad.floor
+        FROM apartment_deal ad
+        WHERE ad.apt_seq = #{aptSeq}
+        ORDER BY ad.deal_date DESC, ad.deal_no DESC
+        LIMIT 1
+        ON DUPLICATE KEY UPDATE
+            deal_no = VALUES(deal_no),
+            deal_date = VALUES(deal_date),
+            deal_amount_num = VALUES(deal_amount_num),
+            exclu_use_ar = VALUES(exclu_use_ar),
+            floor = VALUES(floor),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int refreshByAptSeq(@Param("aptSeq") String aptSeq);
+
+    /**
+     * 여러 아파트의 최신 거래로 projection 일괄 갱신 (Upsert)
+     * 동기화 청크 저장 후 청크에 포함된 아파트 단위로 호출
+     *
+     * @param aptSeqs 아파트코드 목록 (비어 있으면 안 됨)
+     * @return 영향받은 행 수
+     */
+    @Insert("""
+        <script>
+        INSERT INTO apartment_latest_deal (apt_seq, deal_no, deal_date, deal_amount_num, exclu_use_ar, floor)
+        SELECT ranked.apt_seq, ranked.deal_no, ranked.deal_date, ranked.deal_amount_num, ranked.exclu_use_ar, ranked.floor
+        FROM (
+            SELECT
+                ad.apt_seq,
+                ad.deal_no,
+                ad.deal_date,
+                ad.deal_amount_num,
+                ad.exclu_use_ar,
+                ad.floor,
+                ROW_NUMBER() OVER (PARTITION BY ad.apt_seq ORDER BY ad.deal_date DESC, ad.deal_no DESC) AS rn
+            FROM apartment_deal ad
+            WHERE ad.apt_seq IN
+            <foreach collection="aptSeqs" item="aptSeq" open="(" separator="," close=")">
+                #{aptSeq}
+            </foreach>
+        ) ranked
+        WHERE ranked.rn = 1
+        ON DUPLICATE KEY UPDATE
+            deal_no = VALUES(deal_no),
+            deal_date = VALUES(deal_date),
+            deal_amount_num = VALUES(deal_amount_num),
+            exclu_use_ar = VALUES(exclu_use_ar),
+            floor = VALUES(floor),
+            updated_at = CURRENT_TIMESTAMP
+        </script>
+        """)
+    int refreshByAptSeqs(@Param("aptSeqs") List<String> aptSeqs);
+
+    /**
+     * 재구축 대상 아파트코드 조회 (apt_seq 커서 기반, PK 범위 스캔)
+     *
+     * @param afterAptSeq 직전 청크의 마지막 apt_seq (첫 청크는 null)
+     */
+    @Select("""
+        <script>
+        SELECT apt_seq
+        FROM apartment
+        <if test="afterAptSeq != null">
+            WHERE apt_seq &gt; #{afterAptSeq}
+        </if>
+        ORDER BY apt_seq
+        LIMIT #{limit}
+        </script>
+        """)
+    List<String> findAptSeqsAfter(
+            @Param("afterAptSeq") String afterAptSeq,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 거래가 더 이상 없는 아파트의 projection 정리 (재구축 후처리)
+     */
+    @Delete("""
+        DELETE FROM apartment_latest_deal
+        WHERE NOT EXISTS (
+            SELECT 1 FROM apartment_deal ad WHERE ad.apt_seq = apartment_latest_deal.apt_seq
+        )
+        """)
+    int deleteOrphans();
+
+    /**
+     * projection 행 수
+     */
+    @Select("SELECT COUNT(*) FROM apartment_latest_deal")
+    long count();
+}
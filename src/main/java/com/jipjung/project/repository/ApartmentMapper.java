@@ -1,73 +1,120 @@
-package com.jipjung.project.repository;
-
-import com.jipjung.project.controller.dto.request.ApartmentSearchRequest;
-import com.jipjung.project.controller.dto.response.RegionCoordinatesResponse;
-import com.jipjung.project.domain.Apartment;
-import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
-import org.apache.ibatis.annotations.Select;
-
-import java.util.List;
-import java.util.Optional;
-
-/**
- * 아파트 및 실거래 정보 Mapper
- * schema.sql의 apartment, apartment_deal 테이블 접근
- */
-@Mapper
-public interface ApartmentMapper {
-
-    /**
-     * 아파트 목록 조회 (최신 실거래 1건씩 포함)
-     * @param request 검색 조건 및 페이징 정보
-     * @return 아파트 + 최신 거래 리스트
-     */
-    List<Apartment> findAllWithLatestDeal(@Param("request") ApartmentSearchRequest request);
-
-    /**
-     * 아파트 상세 조회 (모든 실거래 이력 포함)
-     * @param aptSeq 아파트코드
-     * @return 아파트 + 모든 거래 이력
-     */
-    Optional<Apartment> findByAptSeqWithDeals(@Param("aptSeq") String aptSeq);
-
-    /**
-     * 아파트 기본정보만 조회
-     * @param aptSeq 아파트코드
-     * @return 아파트 기본정보
-     */
-    Optional<Apartment> findByAptSeq(@Param("aptSeq") String aptSeq);
-
-    /**
-     * 아파트 존재 여부 확인
-     * @param aptSeq 아파트코드
-     * @return 존재 여부
-     */
-    boolean existsByAptSeq(@Param("aptSeq") String aptSeq);
-
-    /**
-     * 검색 조건에 맞는 아파트 개수 조회 (페이징용)
-     * @param request 검색 조건
-     * @return 아파트 개수
-     */
-    int count(@Param("request") ApartmentSearchRequest request);
+package com.jipjung.project.repository;
+
+import com.jipjung.project.controller.dto.request.ApartmentSearchRequest;
+import com.jipjung.project.controller.dto.response.RegionCoordinatesResponse;
+import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.service.dto.ApartmentSearchCursor;
+import com.jipjung.project.service.dto.KeywordCandidates;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아파트 및 실거래 정보 Mapper
+ * schema.sql의 apartment, apartment_deal 테이블 접근
+ */
+@Mapper
+public interface ApartmentMapper {
+
+    /**
+     * 아파트 목록 조회 (최신 실거래 1건씩 포함)
+     * 다음 페이지 존재 여부 판단을 위해 최대 size + 1건을 반환합니다.
+     * @param request 검색 조건 및 페이징 정보
+     * @param cursor  keyset 커서 (null이면 page/offset 기반)
+     * @param keywordCandidates 키워드 검색 색인 후보 (null이면 LIKE 검색)
+     * @return 아파트 + 최신 거래 리스트
+     */
+    List<Apartment> findAllWithLatestDeal(
+            @Param("request") ApartmentSearchRequest request,
+            @Param("cursor") ApartmentSearchCursor cursor,
+            @Param("keywordCandidates") KeywordCandidates keywordCandidates
+    );
+
+    /**
+     * keyset 조회 - 최신 거래가 있는 아파트 구간 (거래 조건이 없는 검색 전용)
+     * apartment_latest_deal을 (deal_date DESC, apt_seq) 인덱스 순서로 읽어 정렬 없이 limit건에서 멈춥니다.
+     * @param request 검색 조건
+     * @param cursor  마지막 위치 (거래일이 있는 커서, null이면 처음부터)
+     * @param keywordCandidates 키워드 검색 색인 후보 (null이면 LIKE 검색)
+     * @param limit   최대 조회 건수
+     * @return 아파트 + 최신 거래 리스트
+     */
+    List<Apartment> findLatestDealPageAfter(
+            @Param("request") ApartmentSearchRequest request,
+            @Param("cursor") ApartmentSearchCursor cursor,
+            @Param("keywordCandidates") KeywordCandidates keywordCandidates,
+            @Param("limit") int limit
+    );
+
+    /**
+     * keyset 조회 - 최신 거래가 없는 아파트 구간 (거래 조건이 없는 검색 전용, apt_seq 순)
+     * @param request 검색 조건
+     * @param afterAptSeq 마지막 apt_seq (null이면 처음부터)
+     * @param keywordCandidates 키워드 검색 색인 후보 (null이면 LIKE 검색)
+     * @param limit   최대 조회 건수
+     * @return 아파트 리스트 (최신 거래 없음)
+     */
+    List<Apartment> findWithoutDealPageAfter(
+            @Param("request") ApartmentSearchRequest request,
+            @Param("afterAptSeq") String afterAptSeq,
+            @Param("keywordCandidates") KeywordCandidates keywordCandidates,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 아파트 상세 조회 (모든 실거래 이력 포함)
+     * @param aptSeq 아파트코드
+     * @return 아파트 + 모든 거래 이력
+     */
+    Optional<Apartment> findByAptSeqWithDeals(@Param("aptSeq") String aptSeq);
+
+    /**
+     * 아파트 기본정보만 조회
+     * @param aptSeq 아파트코드
+     * @return 아파트 기본정보
+     */
+    Optional<Apartment> findByAptSeq(@Param("aptSeq") String aptSeq);
+
+    /**
+     * 아파트 존재 여부 확인
+     * @param aptSeq 아파트코드
+     * @return 존재 여부
+     */
+    boolean existsByAptSeq(@Param("aptSeq") String aptSeq);
+
+    /**
+     * 검색 조건에 맞는 아파트 개수 조회 (페이징용)
+     * @param request 검색 조건
+     * @param keywordCandidates 키워드 검색 색인 후보 (null이면 LIKE 검색)
+     * @return 아파트 개수
+     */
+    int count(
+            @Param("request") ApartmentSearchRequest request,
+            @Param("keywordCandidates") KeywordCandidates keywordCandidates
+    );
 
     /**
      * 지역명으로 평균 좌표 조회
      * @param regionName 지역명 (구/군명, 예: 강남구)
      * @return 평균 좌표 (없으면 null)
      */
-    @Select("""
-        SELECT 
-            #{regionName} AS region,
-            AVG(a.latitude) AS latitude,
-            AVG(a.longitude) AS longitude
-        FROM apartment a
-        JOIN dongcode d ON a.dong_code = d.dong_code
-        WHERE TRIM(d.gugun_name) = #{regionName}
-          AND a.latitude IS NOT NULL 
-          AND a.longitude IS NOT NULL
-        """)
+    @Select("""
+        SELECT 
+            #{regionName} AS region,
+            AVG(a.latitude) AS latitude,
+            AVG(a.longitude) AS longitude
+        FROM apartment a
+        JOIN dongcode d ON a.dong_code = d.dong_code
+        WHERE TRIM(d.gugun_name) = #{regionName}
+          AND a.latitude IS NOT NULL 
+          AND a.longitude IS NOT NULL
+        """)
     RegionCoordinatesResponse findAverageCoordinatesByRegion(@Param("regionName") String regionName);
 
     /**
@@ -75,15 +122,58 @@ public interface ApartmentMapper {
      */
     List<Apartment> findMissingCoordinates(@Param("limit") int limit);
 
+    /**
+     * 좌표가 없는 아파트 조회 (apt_seq 커서 기반 페이지네이션)
+     *
+     * @param afterAptSeq 직전 페이지의 마지막 apt_seq (첫 페이지는 null)
+     */
+    List<Apartment> findMissingCoordinatesAfter(
+            @Param("afterAptSeq") String afterAptSeq,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 지정한 아파트 중 좌표가 없는 아파트 조회 (좌표 보완 대기열 처리용)
+     */
+    List<Apartment> findMissingCoordinatesByAptSeqs(@Param("aptSeqs") List<String> aptSeqs);
+
+    /**
+     * 키워드 검색 색인 구축용 전체 조회 (apt_seq, 단지명, 읍면동명, 도로명만)
+     */
+    List<Apartment> findAllForSearchIndex();
+
+    /**
+     * DB 현재 시각 (검색 색인 스냅샷 기준 시각, updated_at과 같은 시계로 비교)
+     */
+    @Select("SELECT LOCALTIMESTAMP")
+    LocalDateTime findCurrentTimestamp();
+
+    /**
+     * 지도 색인 구축용 전체 조회 (좌표가 있는 아파트 + 최신 거래)
+     * 결과를 목록으로 모으지 않고 행 단위로 handler에 전달합니다.
+     *
+     * @param handler 행 단위 처리 핸들러
+     */
+    void findAllForMapIndex(ResultHandler<MapPoint> handler);
+
     /**
      * 아파트 정보 Upsert (있으면 업데이트, 없으면 삽입)
      * MOLIT API 동기화에 사용
      *
-     * @param apartment 아파트 정보
-     * @return 영향받은 행 수
-     */
+     * @param apartment 아파트 정보
+     * @return 영향받은 행 수
+     */
     int upsert(Apartment apartment);
 
+    /**
+     * 아파트 정보 일괄 Upsert (multi-row INSERT ... ON DUPLICATE KEY UPDATE)
+     * MOLIT API 동기화 청크 저장에 사용
+     *
+     * @param apartments 아파트 정보 목록 (apt_seq 중복 없이, 비어 있으면 안 됨)
+     * @return 영향받은 행 수
+     */
+    int upsertBatch(@Param("apartments") List<Apartment> apartments);
+
     /**
      * 아파트 정보 삽입
      *
@@ -101,4 +191,23 @@ public interface ApartmentMapper {
             @Param("latitude") java.math.BigDecimal latitude,
             @Param("longitude") java.math.BigDecimal longitude
     );
+
+    /**
+     * 지도 색인용 아파트 좌표 + 최신 거래
+     *
+     * @param aptSeq        아파트코드
+     * @param aptNm         단지명
+     * @param latitude      위도
+     * @param longitude     경도
+     * @param dealAmountNum 최신 거래금액 (만원, 거래가 없으면 null)
+     * @param dealDate      최신 거래일 (거래가 없으면 null)
+     */
+    record MapPoint(
+            String aptSeq,
+            String aptNm,
+            Double latitude,
+            Double longitude,
+            Long dealAmountNum,
+            LocalDate dealDate
+    ) {}
 }
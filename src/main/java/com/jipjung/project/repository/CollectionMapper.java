@@ -3,9 +3,11 @@ package com.jipjung.project.repository;
 import com.jipjung.project.domain.UserCollection;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 컬렉션 Mapper
@@ -21,7 +23,7 @@ public interface CollectionMapper {
      * @param userId 사용자 ID
      * @return 컬렉션 목록 (테마, 아파트, 위치 정보 조인)
      */
-    List<Map<String, Object>> findByUserId(@Param("userId") Long userId);
+    List<CollectionRow> findByUserId(@Param("userId") Long userId);
 
     /**
      * 컬렉션 상세 조회 (목록 조회와 동일한 조인 결과 단건)
@@ -30,7 +32,7 @@ public interface CollectionMapper {
      * @param collectionId 컬렉션 ID
      * @return 컬렉션 상세 (테마, 아파트, 위치 정보 조인), 없으면 null
      */
-    Map<String, Object> findDetailByUserIdAndCollectionId(
+    CollectionRow findDetailByUserIdAndCollectionId(
             @Param("userId") Long userId,
             @Param("collectionId") Long collectionId
     );
@@ -87,14 +89,21 @@ public interface CollectionMapper {
     boolean hasActiveDreamHome(@Param("userId") Long userId);
 
     /**
-     * 저축 여정 상세 조회 (Phase별 이벤트)
+     * 저축 여정 이벤트 조회 (기간 내, 시간순)
      * <p>
-     * 윈도우 함수를 사용하여 누적합 계산 최적화
+     * 결과를 목록으로 모으지 않고 행 단위로 handler에 전달합니다.
      *
      * @param dreamHomeId 드림홈 ID
-     * @return 저축 이벤트 목록 (누적합 포함)
+     * @param startAt     시작 시각 (포함)
+     * @param endAt       종료 시각 (포함)
+     * @param handler     행 단위 처리 핸들러
      */
-    List<Map<String, Object>> findJourneyEvents(@Param("dreamHomeId") Long dreamHomeId);
+    void findJourneyEvents(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt,
+            ResultHandler<SavingsJourneyEvent> handler
+    );
 
     /**
      * 진행 중인 드림홈 요약 정보 조회
@@ -104,6 +113,49 @@ public interface CollectionMapper {
      * @param userId 사용자 ID
      * @return 진행 중 드림홈 정보 (없으면 null)
      */
-    Map<String, Object> findInProgressSummary(@Param("userId") Long userId);
+    InProgressSummary findInProgressSummary(@Param("userId") Long userId);
+
+    /**
+     * 컬렉션 조회 결과 (테마, 아파트, 위치 정보 조인)
+     */
+    record CollectionRow(
+            Long collectionId,
+            Integer themeId,
+            String themeName,
+            String themeCode,
+            Long dreamHomeId,
+            String propertyName,
+            String location,
+            Long targetAmount,
+            LocalDate startDate,
+            Integer savingPeriodDays,
+            LocalDateTime completedAt,
+            Boolean isMainDisplay,
+            Long totalSaved,
+            String houseName
+    ) {}
+
+    /**
+     * 진행 중인 드림홈 요약
+     */
+    record InProgressSummary(
+            Long dreamHomeId,
+            String themeCode,
+            String propertyName,
+            String location,
+            Long targetAmount,
+            Long currentSavedAmount
+    ) {}
+
+    /**
+     * 저축 여정 이벤트
+     *
+     * @param savingsId 저축 내역 ID
+     * @param saveType  DEPOSIT 또는 WITHDRAW
+     * @param createdAt 저축 시각
+     * @param amount    저축/인출 금액
+     * @param memo      메모
+     */
+    record SavingsJourneyEvent(Long savingsId, String saveType, LocalDateTime createdAt, Long amount, String memo) {}
 }
 
@@ -5,6 +5,8 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 일일 활동 Mapper
@@ -18,57 +20,44 @@ import java.time.LocalDate;
 public interface DailyActivityMapper {
 
     /**
-     * 특정 날짜에 해당 활동 유형으로 이미 참여했는지 확인
-     * 
-     * @param userId 사용자 ID
-     * @param activityDate 활동 날짜 (KST)
-     * @param activityType 활동 유형 (enum name)
-     * @return 존재 여부
-     */
-    boolean existsByUserIdAndDateAndType(
-            @Param("userId") Long userId,
-            @Param("activityDate") LocalDate activityDate,
-            @Param("activityType") String activityType
-    );
-
-    /**
-     * 특정 날짜의 활동 건수 조회
+     * 특정 날짜의 활동 유형별 획득 EXP 조회
      * <p>
-     * 오늘 첫 활동인지 판단하는 데 사용됩니다.
-     * 
+     * 일일 활동 카운터를 처음 적재할 때 사용됩니다. (사용자당 하루 최대 활동 유형 수만큼)
+     *
      * @param userId 사용자 ID
      * @param activityDate 활동 날짜 (KST)
-     * @return 활동 건수
+     * @return 활동 유형별 획득 EXP
      */
-    int countByUserIdAndDate(
+    List<ActivityExp> findActivityExpByUserIdAndDate(
             @Param("userId") Long userId,
             @Param("activityDate") LocalDate activityDate
     );
 
     /**
-     * 특정 날짜의 총 획득 EXP 조회
+     * 특정 날짜의 활동 유형별 획득 EXP 조회 (FOR UPDATE)
      * <p>
-     * 일일 EXP 상한 체크에 사용됩니다.
-     * 
+     * 사용자 row lock 구간에서 일일 카운터를 재적재할 때 사용합니다.
+     * 잠금 읽기이므로 트랜잭션 스냅샷과 무관하게 다른 인스턴스가 커밋한 활동까지 반영됩니다.
+     *
      * @param userId 사용자 ID
      * @param activityDate 활동 날짜 (KST)
-     * @return 총 획득 EXP (없으면 0)
+     * @return 활동 유형별 획득 EXP
      */
-    int sumExpByUserIdAndDate(
+    List<ActivityExp> findActivityExpByUserIdAndDateForUpdate(
             @Param("userId") Long userId,
             @Param("activityDate") LocalDate activityDate
     );
 
     /**
-     * 일일 활동 기록 삽입
+     * 일일 활동 기록 삽입 (INSERT IGNORE)
      * <p>
-     * 복합 유니크 제약(user_id, activity_date, activity_type)으로 
-     * 같은 날 같은 활동은 중복 삽입 시 예외 발생합니다.
-     * 
+     * 복합 유니크 제약(user_id, activity_date, activity_type)으로
+     * 같은 날 같은 활동은 예외 없이 무시되고 0을 반환합니다.
+     *
      * @param dailyActivity 일일 활동 정보
-     * @return 영향받은 행 수
+     * @return 영향받은 행 수 (이미 참여했으면 0)
      */
-    int insert(DailyActivity dailyActivity);
+    int insertIgnore(DailyActivity dailyActivity);
 
     /**
      * 기간 내 활동 이벤트 조회 (created_at 기준)
@@ -78,9 +67,27 @@ public interface DailyActivityMapper {
      * @param endAt 종료 시각
      * @return 활동 이벤트 목록
      */
-    java.util.List<java.util.Map<String, Object>> findExpEventsByUserIdAndDateRange(
+    List<ExpEvent> findExpEventsByUserIdAndDateRange(
             @Param("userId") Long userId,
-            @Param("startAt") java.time.LocalDateTime startAt,
-            @Param("endAt") java.time.LocalDateTime endAt
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt
     );
+
+    /**
+     * 활동 경험치 이벤트
+     *
+     * @param activityId   활동 ID
+     * @param activityType 활동 유형
+     * @param expEarned    획득 경험치
+     * @param createdAt    기록 시각
+     */
+    record ExpEvent(Long activityId, String activityType, Integer expEarned, LocalDateTime createdAt) {}
+
+    /**
+     * 활동 유형별 획득 경험치
+     *
+     * @param activityType 활동 유형
+     * @param expEarned    획득 경험치
+     */
+    record ActivityExp(String activityType, Integer expEarned) {}
 }
@@ -1,76 +1,34 @@
 package com.jipjung.project.repository;
 
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.util.List;
+
 /**
  * 법정동코드 조회 Mapper
+ * 지역 조회는 {@link com.jipjung.project.service.RegionDictionary}의 인메모리 사전을 사용하고,
+ * 이 Mapper는 사전 (재)적재 시에만 호출됩니다.
  */
 @Mapper
 public interface DongcodeMapper {
 
     /**
-     * 시/군/구 기준 법정동코드 앞 5자리(시군구코드) 조회
-     */
-    @Select("""
-        SELECT MIN(LEFT(dong_code, 5))
-        FROM dongcode
-        WHERE sido_name = #{sido}
-          AND gugun_name = #{sigungu}
-        """)
-    String findLawdCdByRegion(
-            @Param("sido") String sido,
-            @Param("sigungu") String sigungu
-    );
-
-    /**
-     * 시/군/구 기준 법정동코드 앞 5자리(시군구코드) 조회 (시도 미지정)
-     */
-    @Select("""
-        SELECT MIN(LEFT(dong_code, 5))
-        FROM dongcode
-        WHERE gugun_name = #{sigungu}
-        """)
-    String findLawdCdBySigungu(@Param("sigungu") String sigungu);
-
-    /**
-     * 시군구코드 + 읍면동명으로 법정동코드 조회
+     * 법정동코드 전체 조회 (지역 사전 적재용)
      */
     @Select("""
-        SELECT MIN(dong_code)
+        SELECT dong_code, sido_name, gugun_name, dong_name
         FROM dongcode
-        WHERE LEFT(dong_code, 5) = #{sggCd}
-          AND dong_name = #{umdNm}
         """)
-    String findDongCodeBySggCdAndUmdNm(
-            @Param("sggCd") String sggCd,
-            @Param("umdNm") String umdNm
-    );
+    List<DongcodeRow> findAll();
 
     /**
-     * 시군구코드 + 읍면동명 기준 지역 prefix (시도 + 구군)
+     * 법정동코드 행
+     *
+     * @param dongCode  법정동코드 (10자리)
+     * @param sidoName  시도명
+     * @param gugunName 구군명 (시도 단위 코드는 null)
+     * @param dongName  읍면동명 (시군구 단위 코드는 null)
      */
-    @Select("""
-        SELECT CONCAT(sido_name, ' ', gugun_name)
-        FROM dongcode
-        WHERE LEFT(dong_code, 5) = #{sggCd}
-          AND dong_name = #{umdNm}
-        LIMIT 1
-        """)
-    String findRegionPrefixBySggCdAndUmdNm(
-            @Param("sggCd") String sggCd,
-            @Param("umdNm") String umdNm
-    );
-
-    /**
-     * 시군구코드 기준 지역 prefix (시도 + 구군)
-     */
-    @Select("""
-        SELECT CONCAT(sido_name, ' ', gugun_name)
-        FROM dongcode
-        WHERE LEFT(dong_code, 5) = #{sggCd}
-        LIMIT 1
-        """)
-    String findRegionPrefixBySggCd(@Param("sggCd") String sggCd);
+    record DongcodeRow(String dongCode, String sidoName, String gugunName, String dongName) {}
 }
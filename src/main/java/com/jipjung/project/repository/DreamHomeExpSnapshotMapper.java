@@ -0,0 +1,53 @@
+package com.jipjung.project.repository;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * 드림홈 목표 XP 스냅샷 Mapper
+ * schema.sql의 dream_home_exp_snapshot 테이블 접근
+ */
+@Mapper
+public interface DreamHomeExpSnapshotMapper {
+
+    /**
+     * 누적 XP 조회
+     *
+     * @return 누적 XP, 스냅샷이 없으면 null
+     */
+    @Select("SELECT total_exp FROM dream_home_exp_snapshot WHERE dream_home_id = #{dreamHomeId}")
+    Integer findTotalExp(@Param("dreamHomeId") Long dreamHomeId);
+
+    /**
+     * 누적 XP 증분 반영 (여정 재생과 동일하게 0 미만으로 내려가지 않음)
+     *
+     * @return 갱신된 행 수 (스냅샷이 없으면 0)
+     */
+    @Update("""
+        UPDATE dream_home_exp_snapshot
+        SET total_exp = GREATEST(0, total_exp + #{expChange}),
+            updated_at = CURRENT_TIMESTAMP
+        WHERE dream_home_id = #{dreamHomeId}
+        """)
+    int addExp(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("expChange") int expChange
+    );
+
+    /**
+     * 재생 결과로 스냅샷 생성 (이미 있으면 무시)
+     *
+     * @return 새로 추가된 행 수
+     */
+    @Insert("""
+        INSERT IGNORE INTO dream_home_exp_snapshot (dream_home_id, total_exp, updated_at)
+        VALUES (#{dreamHomeId}, #{totalExp}, CURRENT_TIMESTAMP)
+        """)
+    int insertIfAbsent(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("totalExp") int totalExp
+    );
+}
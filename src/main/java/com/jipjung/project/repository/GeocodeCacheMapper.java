@@ -0,0 +1,58 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.domain.GeocodeCache;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주소 geocoding 캐시 Mapper
+ * schema.sql의 geocode_cache 테이블 접근
+ */
+@Mapper
+public interface GeocodeCacheMapper {
+
+    /**
+     * 만료되지 않은 캐시 조회
+     *
+     * @param addressKey 정규화된 주소 키
+     * @param now        기준 시간
+     * @return 캐시 (없거나 만료되면 null)
+     */
+    @Select("""
+        SELECT address_key, found, latitude, longitude, expires_at, created_at
+        FROM geocode_cache
+        WHERE address_key = #{addressKey}
+          AND expires_at > #{now}
+        """)
+    GeocodeCache findValid(
+            @Param("addressKey") String addressKey,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 캐시 저장 (Upsert)
+     */
+    @Insert("""
+        INSERT INTO geocode_cache (address_key, found, latitude, longitude, expires_at)
+        VALUES (#{addressKey}, #{found}, #{latitude}, #{longitude}, #{expiresAt})
+        ON DUPLICATE KEY UPDATE
+            found = VALUES(found),
+            latitude = VALUES(latitude),
+            longitude = VALUES(longitude),
+            expires_at = VALUES(expires_at)
+        """)
+    int upsert(GeocodeCache cache);
+
+    /**
+     * 만료된 캐시 정리
+     *
+     * @return 삭제된 행 수
+     */
+    @Delete("DELETE FROM geocode_cache WHERE expires_at <= #{now}")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,104 @@
+package com.jipjung.project.repository;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 좌표 보완 대기열 Mapper
+ * schema.sql의 geocode_queue 테이블 접근
+ */
+@Mapper
+public interface GeocodeQueueMapper {
+
+    /**
+     * 좌표가 없는 아파트만 대기열에 추가 (이미 대기 중이면 무시)
+     *
+     * @return 새로 추가된 행 수
+     */
+    @Insert("""
+        <script>
+        INSERT IGNORE INTO geocode_queue (apt_seq, attempts, next_attempt_at, enqueued_at)
+        SELECT apt_seq, 0, #{now}, #{now}
+        FROM apartment
+        WHERE apt_seq IN
+            <foreach collection="aptSeqs" item="aptSeq" open="(" separator="," close=")">
+                #{aptSeq}
+            </foreach>
+          AND (latitude IS NULL OR longitude IS NULL)
+        </script>
+        """)
+    int enqueueMissing(
+            @Param("aptSeqs") Collection<String> aptSeqs,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 처리 가능한 대기 항목 조회 (먼저 들어온 순)
+     */
+    @Select("""
+        SELECT apt_seq
+        FROM geocode_queue
+        WHERE next_attempt_at <= #{now}
+        ORDER BY enqueued_at, apt_seq
+        LIMIT #{limit}
+        """)
+    List<String> findDue(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 처리 완료 항목 삭제
+     */
+    @Delete("""
+        <script>
+        DELETE FROM geocode_queue
+        WHERE apt_seq IN
+            <foreach collection="aptSeqs" item="aptSeq" open="(" separator="," close=")">
+                #{aptSeq}
+            </foreach>
+        </script>
+        """)
+    int deleteByAptSeqs(@Param("aptSeqs") Collection<String> aptSeqs);
+
+    /**
+     * 실패 항목 재시도 예약 (시도 횟수 증가)
+     */
+    @Update("""
+        <script>
+        UPDATE geocode_queue
+        SET attempts = attempts + 1,
+            next_attempt_at = #{nextAttemptAt}
+        WHERE apt_seq IN
+            <foreach collection="aptSeqs" item="aptSeq" open="(" separator="," close=")">
+                #{aptSeq}
+            </foreach>
+        </script>
+        """)
+    int markRetry(
+            @Param("aptSeqs") Collection<String> aptSeqs,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt
+    );
+
+    /**
+     * 최대 시도 횟수를 넘긴 항목 정리 (이후 정기 좌표 백필 대상)
+     *
+     * @return 삭제된 행 수
+     */
+    @Delete("DELETE FROM geocode_queue WHERE attempts >= #{maxAttempts}")
+    int deleteExhausted(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 대기 중인 항목 수
+     */
+    @Select("SELECT COUNT(*) FROM geocode_queue")
+    long countPending();
+}
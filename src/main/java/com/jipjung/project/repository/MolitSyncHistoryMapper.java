@@ -3,17 +3,18 @@ package com.jipjung.project.repository;
 import org.apache.ibatis.annotations.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * MOLIT API 동기화 이력 Mapper
- * 중복 API 호출 방지용
+ * 중복 API 호출 방지 및 백필 재개(resume) 기준으로 사용
  */
 @Mapper
 public interface MolitSyncHistoryMapper {
 
     /**
      * 최근 동기화 여부 확인
-     * 지정된 시간 이후에 동기화된 이력이 있는지 확인
+     * 지정된 시간 이후에 완료(DONE)된 이력이 있는지 확인
      *
      * @param lawdCd  법정동코드
      * @param dealYmd 거래년월
@@ -25,6 +26,7 @@ public interface MolitSyncHistoryMapper {
         FROM molit_sync_history
         WHERE lawd_cd = #{lawdCd}
           AND deal_ymd = #{dealYmd}
+          AND status = 'DONE'
           AND synced_at >= #{cutoff}
         """)
     boolean existsRecentSync(
@@ -34,7 +36,7 @@ public interface MolitSyncHistoryMapper {
     );
 
     /**
-     * 동기화 이력 삽입 또는 갱신 (Upsert)
+     * 동기화 완료 이력 삽입 또는 갱신 (Upsert, status = DONE)
      *
      * @param lawdCd      법정동코드
      * @param dealYmd     거래년월
@@ -42,10 +44,12 @@ public interface MolitSyncHistoryMapper {
      * @return 영향받은 행 수
      */
     @Insert("""
-        INSERT INTO molit_sync_history (lawd_cd, deal_ymd, synced_count)
-        VALUES (#{lawdCd}, #{dealYmd}, #{syncedCount})
+        INSERT INTO molit_sync_history (lawd_cd, deal_ymd, synced_count, status, error_message)
+        VALUES (#{lawdCd}, #{dealYmd}, #{syncedCount}, 'DONE', NULL)
         ON DUPLICATE KEY UPDATE
             synced_count = VALUES(synced_count),
+            status = 'DONE',
+            error_message = NULL,
             synced_at = CURRENT_TIMESTAMP
         """)
     int insertOrUpdate(
@@ -54,6 +58,47 @@ public interface MolitSyncHistoryMapper {
             @Param("syncedCount") int syncedCount
     );
 
+    /**
+     * 동기화 실패 기록 (Upsert, status = FAILED)
+     * 실패한 지역/년월은 Fallback/백필에서 다시 시도됨
+     *
+     * @param lawdCd       법정동코드
+     * @param dealYmd      거래년월
+     * @param errorMessage 오류 메시지
+     * @return 영향받은 행 수
+     */
+    @Insert("""
+        INSERT INTO molit_sync_history (lawd_cd, deal_ymd, synced_count, status, error_message)
+        VALUES (#{lawdCd}, #{dealYmd}, 0, 'FAILED', #{errorMessage})
+        ON DUPLICATE KEY UPDATE
+            status = 'FAILED',
+            error_message = VALUES(error_message),
+            synced_at = CURRENT_TIMESTAMP
+        """)
+    int markFailed(
+            @Param("lawdCd") String lawdCd,
+            @Param("dealYmd") String dealYmd,
+            @Param("errorMessage") String errorMessage
+    );
+
+    /**
+     * 년월 범위 내 완료(DONE) 이력 조회 (백필 재개용)
+     *
+     * @param fromYmd 시작 거래년월 (포함)
+     * @param toYmd   종료 거래년월 (포함)
+     * @return 완료 이력 목록
+     */
+    @Select("""
+        SELECT lawd_cd, deal_ymd, synced_at
+        FROM molit_sync_history
+        WHERE deal_ymd BETWEEN #{fromYmd} AND #{toYmd}
+          AND status = 'DONE'
+        """)
+    List<CompletedSync> findCompletedBetween(
+            @Param("fromYmd") String fromYmd,
+            @Param("toYmd") String toYmd
+    );
+
     /**
      * 특정 지역/년월의 마지막 동기화 시간 조회
      */
@@ -67,4 +112,13 @@ public interface MolitSyncHistoryMapper {
             @Param("lawdCd") String lawdCd,
             @Param("dealYmd") String dealYmd
     );
+
+    /**
+     * 완료된 동기화 이력
+     *
+     * @param lawdCd   법정동코드
+     * @param dealYmd  거래년월
+     * @param syncedAt 동기화 시간
+     */
+    record CompletedSync(String lawdCd, String dealYmd, LocalDateTime syncedAt) {}
 }
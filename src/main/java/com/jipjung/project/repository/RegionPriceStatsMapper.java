@@ -0,0 +1,135 @@
+package com.jipjung.project.repository;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 시군구/거래년월별 실거래가 통계 Mapper
+ * schema.sql의 region_price_stats 테이블 접근 (금액 단위: 만원)
+ */
+@Mapper
+public interface RegionPriceStatsMapper {
+
+    /**
+     * 시군구/거래년월의 거래금액 목록 (오름차순)
+     * apt_seq가 시군구코드로 시작하므로 uk_deal_unique(apt_seq, ...) 인덱스 범위 스캔으로 조회
+     */
+    @Select("""
+        SELECT deal_amount_num
+        FROM apartment_deal
+        WHERE apt_seq LIKE CONCAT(#{sggCd}, '-%')
+          AND deal_year = #{dealYear}
+          AND deal_month = #{dealMonth}
+          AND deal_amount_num IS NOT NULL
+        ORDER BY deal_amount_num
+        """)
+    List<Long> findDealAmounts(
+            @Param("sggCd") String sggCd,
+            @Param("dealYear") int dealYear,
+            @Param("dealMonth") int dealMonth
+    );
+
+    /**
+     * 통계 저장 (Upsert)
+     */
+    @Insert("""
+        INSERT INTO region_price_stats
+            (sgg_cd, deal_ym, deal_count, avg_amount, p25_amount, median_amount, p75_amount, updated_at)
+        VALUES
+            (#{sggCd}, #{dealYm}, #{dealCount}, #{avgAmount}, #{p25Amount}, #{medianAmount}, #{p75Amount},
+             CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+            deal_count = VALUES(deal_count),
+            avg_amount = VALUES(avg_amount),
+            p25_amount = VALUES(p25_amount),
+            median_amount = VALUES(median_amount),
+            p75_amount = VALUES(p75_amount),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int upsert(
+            @Param("sggCd") String sggCd,
+            @Param("dealYm") String dealYm,
+            @Param("dealCount") int dealCount,
+            @Param("avgAmount") long avgAmount,
+            @Param("p25Amount") long p25Amount,
+            @Param("medianAmount") long medianAmount,
+            @Param("p75Amount") long p75Amount
+    );
+
+    /**
+     * 거래가 없는 시군구/거래년월 통계 삭제
+     */
+    @Delete("DELETE FROM region_price_stats WHERE sgg_cd = #{sggCd} AND deal_ym = #{dealYm}")
+    int delete(
+            @Param("sggCd") String sggCd,
+            @Param("dealYm") String dealYm
+    );
+
+    /**
+     * 여러 시군구의 기간 내 거래 가중 평균 (PK 범위 조회)
+     *
+     * @param sggCds 시군구코드 목록 (비어 있으면 안 됨)
+     * @param fromYm 시작 거래년월 (포함, YYYYMM)
+     * @return 평균 거래금액 (만원), 통계가 없으면 null
+     */
+    @Select("""
+        <script>
+        SELECT ROUND(SUM(avg_amount * deal_count) / SUM(deal_count))
+        FROM region_price_stats
+        WHERE sgg_cd IN
+            <foreach collection="sggCds" item="sggCd" open="(" separator="," close=")">
+                #{sggCd}
+            </foreach>
+          AND deal_ym >= #{fromYm}
+          AND deal_count > 0
+        </script>
+        """)
+    Long findWeightedAverageAmount(
+            @Param("sggCds") Collection<String> sggCds,
+            @Param("fromYm") String fromYm
+    );
+
+    /**
+     * 통계 행 수
+     */
+    @Select("SELECT COUNT(*) FROM region_price_stats")
+    long count();
+
+    /**
+     * 저장된 통계 키 목록 (재구축 후 더 이상 거래가 없는 키 정리용)
+     */
+    @Select("SELECT sgg_cd, deal_ym FROM region_price_stats")
+    List<StatsKey> findAllKeys();
+
+    /**
+     * 거래가 존재하는 시군구/거래년월 목록 (재구축 대상)
+     */
+    @Select("""
+        SELECT DISTINCT LEFT(apt_seq, 5) AS sgg_cd, deal_year, deal_month
+        FROM apartment_deal
+        """)
+    List<RegionMonth> findAllRegionMonths();
+
+    /**
+     * 시군구/거래년월
+     *
+     * @param sggCd     시군구코드
+     * @param dealYear  거래년도
+     * @param dealMonth 거래월
+     */
+    record RegionMonth(String sggCd, Integer dealYear, Integer dealMonth) {}
+
+    /**
+     * 통계 키
+     *
+     * @param sggCd  시군구코드
+     * @param dealYm 거래년월 (YYYYMM)
+     */
+    record StatsKey(String sggCd, String dealYm) {}
+}
@@ -0,0 +1,60 @@
+package com.jipjung.project.repository;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기 토큰 Mapper
+ * schema.sql의 revoked_token 테이블 접근
+ */
+@Mapper
+public interface RevokedTokenMapper {
+
+    /**
+     * 폐기 토큰 저장 (이미 있으면 무시)
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각
+     * @return 새로 추가된 행 수
+     */
+    @Insert("""
+        INSERT IGNORE INTO revoked_token (jti, expires_at, revoked_at)
+        VALUES (#{jti}, #{expiresAt}, CURRENT_TIMESTAMP)
+        """)
+    int insertIfAbsent(
+            @Param("jti") String jti,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 전체 조회 (인메모리 폐기 목록 적재용)
+     */
+    @Select("""
+        SELECT jti, expires_at
+        FROM revoked_token
+        WHERE expires_at > #{now}
+        """)
+    List<RevokedToken> findActive(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 폐기 토큰 정리
+     *
+     * @return 삭제된 행 수
+     */
+    @Delete("DELETE FROM revoked_token WHERE expires_at <= #{now}")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * 폐기 토큰
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각
+     */
+    record RevokedToken(String jti, LocalDateTime expiresAt) {}
+}
@@ -28,10 +28,10 @@ public interface StreakHistoryMapper {
     boolean existsByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
 
     /**
-     * 스트릭 기록 삽입
+     * 스트릭 기록 삽입 (같은 날 기록이 있으면 무시)
      *
      * @param streakHistory 스트릭 기록
      * @return 영향받은 행 수
      */
-    int insert(StreakHistory streakHistory);
+    int insertIgnore(StreakHistory streakHistory);
 }
@@ -4,6 +4,7 @@ import com.jipjung.project.domain.StreakMilestoneReward;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -52,9 +53,19 @@ public interface StreakMilestoneRewardMapper {
      * @param endAt 종료 시각
      * @return 마일스톤 보상 이벤트 목록
      */
-    java.util.List<java.util.Map<String, Object>> findRewardsByUserIdAndDateRange(
+    List<RewardEvent> findRewardsByUserIdAndDateRange(
             @Param("userId") Long userId,
-            @Param("startAt") java.time.LocalDateTime startAt,
-            @Param("endAt") java.time.LocalDateTime endAt
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt
     );
+
+    /**
+     * 마일스톤 보상 이벤트
+     *
+     * @param rewardId      보상 ID
+     * @param milestoneDays 마일스톤 일수
+     * @param expReward     보상 경험치
+     * @param claimedAt     수령 시각
+     */
+    record RewardEvent(Long rewardId, Integer milestoneDays, Integer expReward, LocalDateTime claimedAt) {}
 }
@@ -148,14 +148,19 @@ public interface UserMapper {
     int updateSelectedTheme(@Param("userId") Long userId, @Param("themeId") Integer themeId);
 
     /**
-     * 스트릭 정보 업데이트
+     * 활동 결과 일괄 반영 (스트릭 + 경험치 + 레벨 + 일일 활동 EXP)
      * <p>
-     * 연속 저축 일수, 최대 기록, 마지막 참여일을 갱신합니다.
+     * 연속 일수, 최대 기록, 마지막 참여일, 경험치, 레벨, 오늘 활동 EXP 합계를 한 번의 UPDATE로 갱신합니다.
+     * 경험치는 증분으로 더하고 레벨은 낮아지지 않습니다.
+     * 일일 활동 EXP는 daily_activity 기록과 같은 트랜잭션에서만 바뀌므로 일일 상한 판정의 기준이 됩니다.
      *
      * @param userId         사용자 ID
      * @param streakCount    현재 연속일수
      * @param maxStreak      최대 연속일수
-     * @param lastStreakDate 마지막 스트릭 참여일
+     * @param lastStreakDate 마지막 스트릭 참여일 (= 활동 날짜, 일일 활동 EXP 기준일)
+     * @param expToAdd       추가 경험치
+     * @param level          갱신할 레벨
+     * @param dailyExp       활동 날짜의 활동 EXP 합계 (이번 활동 포함)
      * @return 업데이트 영향 행 수
      */
     @Update("""
@@ -163,14 +168,21 @@ public interface UserMapper {
         SET streak_count = #{streakCount},
             max_streak = #{maxStreak},
             last_streak_date = #{lastStreakDate},
+            current_exp = COALESCE(current_exp, 0) + #{expToAdd},
+            current_level = GREATEST(COALESCE(current_level, 1), #{level}),
+            daily_exp = #{dailyExp},
+            daily_exp_date = #{lastStreakDate},
             updated_at = CURRENT_TIMESTAMP
         WHERE user_id = #{userId}
           AND is_deleted = false
     """)
-    int updateStreak(
+    int applyActivity(
             @Param("userId") Long userId,
             @Param("streakCount") int streakCount,
             @Param("maxStreak") int maxStreak,
-            @Param("lastStreakDate") java.time.LocalDate lastStreakDate
+            @Param("lastStreakDate") java.time.LocalDate lastStreakDate,
+            @Param("expToAdd") int expToAdd,
+            @Param("level") int level,
+            @Param("dailyExp") int dailyExp
     );
 }
@@ -191,6 +191,7 @@ public class AiManagerService {
         aiConversationMapper.updateJudgment(conversation);
 
         userMapper.addExp(userId, safeExpChange);
+        collectionService.recordGoalExp(userId, safeExpChange);
         User updatedUser = findUserOrThrow(userId);
         int updatedExp = safeCurrentExp(updatedUser);
 
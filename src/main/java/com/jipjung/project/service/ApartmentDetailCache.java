@@ -0,0 +1,142 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.controller.dto.response.ApartmentDetailResponse;
+import com.jipjung.project.service.dto.DetailCacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 아파트 상세 응답 read-through 캐시
+ * <p>
+ * aptSeq별 {@link ApartmentDetailResponse}를 LRU로 보관하며, 용량은 응답 크기 기준
+ * 가중치(아파트 1 + 실거래 건수)의 합으로 제한합니다.
+ * 동기화로 새 거래가 저장되거나 좌표가 갱신되면 해당 아파트 항목을 무효화하고,
+ * 트랜잭션 안에서 호출된 경우 커밋 이후에 한 번 더 무효화하여 커밋 전 데이터가 남지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class ApartmentDetailCache {
+
+    private final boolean enabled;
+    private final long maxWeight;
+    private final LinkedHashMap<String, ApartmentDetailResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private long version;
+
+    public ApartmentDetailCache(@Value("${apartment.detail-cache.enabled:true}") boolean enabled,
+                                @Value("${apartment.detail-cache.max-weight:100000}") long maxWeight) {
+        this.enabled = enabled;
+        this.maxWeight = Math.max(1, maxWeight);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 생성 후 저장
+     * loader 실행 중 무효화가 발생하면 결과를 저장하지 않습니다.
+     */
+    public ApartmentDetailResponse get(String aptSeq, Supplier<ApartmentDetailResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long loadVersion;
+        synchronized (this) {
+            ApartmentDetailResponse cached = entries.get(aptSeq);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            loadVersion = version;
+        }
+
+        ApartmentDetailResponse loaded = loader.get();
+        long entryWeight = weightOf(loaded);
+        if (entryWeight > maxWeight) {
+            return loaded;
+        }
+
+        synchronized (this) {
+            if (loadVersion == version) {
+                ApartmentDetailResponse previous = entries.put(aptSeq, loaded);
+                weight += entryWeight - (previous != null ? weightOf(previous) : 0);
+                evictOverflow();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 아파트 상세 캐시 무효화 (트랜잭션 내 호출 시 커밋 후 재무효화)
+     */
+    public void invalidate(Collection<String> aptSeqs) {
+        if (!enabled || aptSeqs.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(aptSeqs);
+        remove(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public synchronized DetailCacheStats getStats() {
+        long requests = hits + misses;
+        return new DetailCacheStats(
+                entries.size(),
+                weight,
+                maxWeight,
+                hits,
+                misses,
+                requests > 0 ? (double) hits / requests : 0.0,
+                evictions,
+                invalidations
+        );
+    }
+
+    private synchronized void remove(List<String> aptSeqs) {
+        version++;
+        for (String aptSeq : aptSeqs) {
+            ApartmentDetailResponse removed = entries.remove(aptSeq);
+            if (removed != null) {
+                weight -= weightOf(removed);
+                invalidations++;
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, ApartmentDetailResponse>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= weightOf(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private static long weightOf(ApartmentDetailResponse response) {
+        return 1L + (response.deals() != null ? response.deals().size() : 0);
+    }
+}
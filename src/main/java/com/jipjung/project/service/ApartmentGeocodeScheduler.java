@@ -18,12 +18,12 @@ public class ApartmentGeocodeScheduler {
 
     private final ApartmentGeocodingService geocodingService;
 
-    @Value("${kakao.api.backfill-batch-size:50}")
-    private int batchSize;
+    @Value("${kakao.api.backfill-max-per-run:1000}")
+    private int maxPerRun;
 
     @Scheduled(cron = "${kakao.api.backfill-cron:0 */30 * * * *}")
     public void backfillMissingCoordinates() {
-        int updated = geocodingService.backfillMissingCoordinates(batchSize);
+        int updated = geocodingService.backfillMissingCoordinates(maxPerRun);
         if (updated > 0) {
             log.info("[Geo] Scheduler backfill completed: updated={}", updated);
         }
@@ -1,23 +1,39 @@
 package com.jipjung.project.service;
 
 import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.domain.GeocodeCache;
 import com.jipjung.project.external.kakao.KakaoGeoClient;
 import com.jipjung.project.repository.ApartmentMapper;
-import com.jipjung.project.repository.DongcodeMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Statement;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * Apartment geocoding service
+ * <p>
+ * 좌표 백필은 apt_seq 커서로 좌표 누락 아파트를 페이지 단위로 읽고,
+ * 페이지 내 geocoding은 워커 풀(geocodeBackfillExecutor)에서 병렬 수행합니다.
+ * Kakao 호출 속도는 KakaoGeoClient의 공용 토큰 버킷(kakao.api.qps)으로 제한되며,
+ * 찾은 좌표는 페이지마다 JDBC batch로 한 번에 반영합니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ApartmentGeocodingService {
 
@@ -25,7 +41,36 @@ public class ApartmentGeocodingService {
 
     private final KakaoGeoClient kakaoGeoClient;
     private final ApartmentMapper apartmentMapper;
-    private final DongcodeMapper dongcodeMapper;
+    private final RegionDictionary regionDictionary;
+    private final GeocodeCacheService geocodeCacheService;
+    private final ApartmentDetailCache apartmentDetailCache;
+    private final Executor backfillExecutor;
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${kakao.api.backfill-batch-size:50}")
+    private int backfillPageSize;
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+    private volatile String backfillCursor;
+
+    public ApartmentGeocodingService(KakaoGeoClient kakaoGeoClient,
+                                     ApartmentMapper apartmentMapper,
+                                     RegionDictionary regionDictionary,
+                                     GeocodeCacheService geocodeCacheService,
+                                     ApartmentDetailCache apartmentDetailCache,
+                                     @Qualifier("geocodeBackfillExecutor") Executor backfillExecutor,
+                                     SqlSessionFactory sqlSessionFactory,
+                                     PlatformTransactionManager transactionManager) {
+        this.kakaoGeoClient = kakaoGeoClient;
+        this.apartmentMapper = apartmentMapper;
+        this.regionDictionary = regionDictionary;
+        this.geocodeCacheService = geocodeCacheService;
+        this.apartmentDetailCache = apartmentDetailCache;
+        this.backfillExecutor = backfillExecutor;
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     public boolean updateCoordinatesIfMissing(
             String aptSeq,
@@ -47,45 +92,155 @@ public class ApartmentGeocodingService {
             return false;
         }
 
-        String regionPrefix = resolveRegionPrefix(sggCd, umdNm);
-        if (isBlank(regionPrefix)) {
-            log.warn("[Geo] Failed to resolve region prefix: sggCd={}, umdNm={}", sggCd, umdNm);
-            return false;
-        }
+        return resolveLocation(aptSeq, sggCd, umdNm, jibun, aptNm)
+                .map(location -> updateCoordinates(location.aptSeq(), location.dongCode(), location.coordinates()))
+                .orElse(false);
+    }
 
-        List<String> addressCandidates = buildAddressCandidates(regionPrefix, umdNm, jibun, aptNm);
-        Optional<KakaoGeoClient.KakaoCoordinates> coords = geocodeFirst(addressCandidates, aptSeq);
-        if (coords.isEmpty()) {
-            return false;
+    /**
+     * 좌표 누락 아파트 백필
+     * 이전 실행이 멈춘 apt_seq 커서부터 이어서 최대 limit건을 처리하며,
+     * 테이블 끝에 도달하면 다음 실행은 처음부터 다시 순회합니다.
+     *
+     * @param limit 이번 실행에서 처리할 최대 아파트 수
+     * @return 좌표가 반영된 아파트 수 (이미 실행 중이면 0)
+     */
+    public int backfillMissingCoordinates(int limit) {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            log.info("[Geo] Backfill already running, skipped");
+            return 0;
+        }
+        try {
+            return runBackfill(Math.max(MIN_BATCH_LIMIT, limit));
+        } finally {
+            backfillRunning.set(false);
         }
+    }
 
-        String dongCode = resolveDongCode(sggCd, umdNm);
-        KakaoGeoClient.KakaoCoordinates value = coords.get();
-        return updateCoordinates(aptSeq, dongCode, value);
+    /**
+     * 아파트 목록 일괄 geocoding (워커 풀 병렬 조회 + JDBC batch 반영)
+     *
+     * @return 좌표를 찾은 apt_seq 목록
+     */
+    public Set<String> geocodeAll(List<Apartment> apartments) {
+        if (apartments.isEmpty()) {
+            return Set.of();
+        }
+        List<ResolvedLocation> resolved = resolveConcurrently(apartments);
+        writeLocations(resolved);
+        return resolved.stream()
+                .map(ResolvedLocation::aptSeq)
+                .collect(Collectors.toSet());
     }
 
-    public int backfillMissingCoordinates(int limit) {
-        int batchLimit = Math.max(MIN_BATCH_LIMIT, limit);
-        List<Apartment> targets = apartmentMapper.findMissingCoordinates(batchLimit);
+    private int runBackfill(int limit) {
+        long startedNanos = System.nanoTime();
+        int pageSize = Math.max(MIN_BATCH_LIMIT, backfillPageSize);
+        int processed = 0;
         int updated = 0;
-        for (Apartment apartment : targets) {
-            boolean changed = updateCoordinatesIfMissing(
-                    apartment.getAptSeq(),
-                    apartment.getSggCd(),
-                    apartment.getUmdNm(),
-                    apartment.getJibun(),
-                    apartment.getAptNm()
-            );
-            if (changed) {
-                updated++;
+
+        while (processed < limit) {
+            int size = Math.min(pageSize, limit - processed);
+            List<Apartment> page = apartmentMapper.findMissingCoordinatesAfter(backfillCursor, size);
+            if (page.isEmpty()) {
+                backfillCursor = null;
+                break;
+            }
+
+            updated += writeLocations(resolveConcurrently(page));
+            processed += page.size();
+
+            if (page.size() < size) {
+                backfillCursor = null;
+                break;
             }
+            backfillCursor = page.get(page.size() - 1).getAptSeq();
+        }
+
+        if (processed > 0) {
+            double elapsedSeconds = Math.max(1e-3, (System.nanoTime() - startedNanos) / 1_000_000_000.0);
+            log.info("[Geo] Backfill completed: updated={}/{}, {} apt/s, nextCursor={}",
+                    updated, processed, String.format("%.1f", processed / elapsedSeconds), backfillCursor);
+        }
+        return updated;
+    }
+
+    /**
+     * 페이지 내 아파트를 워커 풀에서 병렬 geocoding
+     */
+    private List<ResolvedLocation> resolveConcurrently(List<Apartment> page) {
+        List<CompletableFuture<Optional<ResolvedLocation>>> futures = page.stream()
+                .map(apartment -> CompletableFuture
+                        .supplyAsync(() -> resolveLocation(
+                                apartment.getAptSeq(),
+                                apartment.getSggCd(),
+                                apartment.getUmdNm(),
+                                apartment.getJibun(),
+                                apartment.getAptNm()
+                        ), backfillExecutor)
+                        .exceptionally(e -> {
+                            log.warn("[Geo] Geocoding task failed: aptSeq={}, error={}",
+                                    apartment.getAptSeq(), e.getMessage());
+                            return Optional.empty();
+                        }))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * 찾은 좌표를 한 트랜잭션에서 JDBC batch로 반영
+     */
+    private int writeLocations(List<ResolvedLocation> locations) {
+        if (locations.isEmpty()) {
+            return 0;
         }
-        if (updated > 0) {
-            log.info("[Geo] Backfill completed: updated={}/{}", updated, targets.size());
+        List<BatchResult> results = transactionTemplate.execute(status -> {
+            ApartmentMapper batchMapper = batchSqlSession.getMapper(ApartmentMapper.class);
+            for (ResolvedLocation location : locations) {
+                batchMapper.updateLocationIfMissing(
+                        location.aptSeq(),
+                        location.dongCode(),
+                        location.coordinates().latitude(),
+                        location.coordinates().longitude()
+                );
+            }
+            return batchSqlSession.flushStatements();
+        });
+        apartmentDetailCache.invalidate(locations.stream().map(ResolvedLocation::aptSeq).toList());
+
+        int updated = 0;
+        for (BatchResult result : results) {
+            for (int count : result.getUpdateCounts()) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    updated++;
+                }
+            }
         }
         return updated;
     }
 
+    private Optional<ResolvedLocation> resolveLocation(
+            String aptSeq,
+            String sggCd,
+            String umdNm,
+            String jibun,
+            String aptNm
+    ) {
+        String regionPrefix = resolveRegionPrefix(sggCd);
+        if (isBlank(regionPrefix)) {
+            log.warn("[Geo] Failed to resolve region prefix: sggCd={}, umdNm={}", sggCd, umdNm);
+            return Optional.empty();
+        }
+
+        List<String> addressCandidates = buildAddressCandidates(regionPrefix, umdNm, jibun, aptNm);
+        return geocodeFirst(addressCandidates, aptSeq)
+                .map(coords -> new ResolvedLocation(aptSeq, resolveDongCode(sggCd, umdNm), coords));
+    }
+
     private Optional<Apartment> findApartment(String aptSeq) {
         Optional<Apartment> apartment = apartmentMapper.findByAptSeq(aptSeq);
         if (apartment.isEmpty()) {
@@ -98,22 +253,19 @@ public class ApartmentGeocodingService {
         return apartment.getLatitude() != null && apartment.getLongitude() != null;
     }
 
-    private String resolveRegionPrefix(String sggCd, String umdNm) {
+    private String resolveRegionPrefix(String sggCd) {
         if (isBlank(sggCd)) {
             return null;
         }
-        String resolved = dongcodeMapper.findRegionPrefixBySggCdAndUmdNm(sggCd, umdNm);
-        if (!isBlank(resolved)) {
-            return resolved;
-        }
-        return dongcodeMapper.findRegionPrefixBySggCd(sggCd);
+        String resolved = regionDictionary.findRegionPrefix(sggCd);
+        return isBlank(resolved) ? null : resolved;
     }
 
     private String resolveDongCode(String sggCd, String umdNm) {
         if (isBlank(sggCd) || isBlank(umdNm)) {
             return null;
         }
-        return dongcodeMapper.findDongCodeBySggCdAndUmdNm(sggCd, umdNm);
+        return regionDictionary.findDongCode(sggCd, umdNm);
     }
 
     private List<String> buildAddressCandidates(String regionPrefix, String umdNm, String jibun, String aptNm) {
@@ -131,9 +283,21 @@ public class ApartmentGeocodingService {
 
     private Optional<KakaoGeoClient.KakaoCoordinates> geocodeFirst(List<String> addresses, String aptSeq) {
         for (String address : addresses) {
-            Optional<KakaoGeoClient.KakaoCoordinates> coords = kakaoGeoClient.geocode(address);
-            if (coords.isPresent()) {
-                return coords;
+            Optional<GeocodeCache> cached = geocodeCacheService.find(address);
+            if (cached.isPresent()) {
+                if (cached.get().hasCoordinates()) {
+                    return Optional.of(new KakaoGeoClient.KakaoCoordinates(
+                            cached.get().getLatitude(),
+                            cached.get().getLongitude()
+                    ));
+                }
+                continue;  // 최근에 찾지 못한 주소 (negative cache)
+            }
+
+            KakaoGeoClient.GeocodeResult result = kakaoGeoClient.lookup(address);
+            geocodeCacheService.put(address, result);
+            if (result.coordinates() != null) {
+                return Optional.of(result.coordinates());
             }
         }
         if (!addresses.isEmpty()) {
@@ -155,6 +319,7 @@ public class ApartmentGeocodingService {
             log.debug("[Geo] Coordinates already set or apartment missing: aptSeq={}", aptSeq);
             return false;
         }
+        apartmentDetailCache.invalidate(List.of(aptSeq));
         return true;
     }
 
@@ -175,4 +340,6 @@ public class ApartmentGeocodingService {
     private boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
+
+    private record ResolvedLocation(String aptSeq, String dongCode, KakaoGeoClient.KakaoCoordinates coordinates) {}
 }
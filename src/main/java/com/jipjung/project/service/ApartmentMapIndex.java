@@ -0,0 +1,289 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.controller.dto.response.ApartmentMapResponse;
+import com.jipjung.project.repository.ApartmentMapper;
+import com.jipjung.project.service.dto.MapBoundingBox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도 화면 영역 조회용 인메모리 격자 색인
+ * <p>
+ * 좌표가 있는 아파트를 고정 크기 격자(위경도 0.01도, 약 1km)의 셀 키 순으로 정렬해 두고,
+ * bbox 조회 시 위도 행마다 셀 키 범위를 이분 탐색하여 영역 안의 아파트만 훑습니다.
+ * {@code idx_location (latitude, longitude)} B-tree는 위도 범위만 좁힐 수 있어 사용하지 않습니다.
+ * <ul>
+ *   <li>확대 수준이 cluster-max-zoom 이하이거나 영역 내 아파트가 max-markers를 넘으면
+ *       화면 픽셀 기준 격자로 묶은 클러스터를 반환</li>
+ *   <li>좌표 보완/최신 거래 변경은 주기적 재구축으로 반영 (불변 스냅샷 교체)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApartmentMapIndex {
+
+    public static final int MIN_ZOOM = 1;
+    public static final int MAX_ZOOM = 21;
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final long COLUMN_COUNT = (long) Math.ceil(360 / CELL_DEGREES) + 1;
+    private static final int TILE_PIXELS = 256;
+    private static final long NO_DEAL_AMOUNT = -1L;
+    private static final int NO_DEAL_DATE = Integer.MIN_VALUE;
+
+    private final ApartmentMapper apartmentMapper;
+
+    @Value("${apartment.map-index.max-markers:500}")
+    private int maxMarkers;
+
+    @Value("${apartment.map-index.cluster-max-zoom:13}")
+    private int clusterMaxZoom;
+
+    @Value("${apartment.map-index.cluster-pixels:60}")
+    private int clusterPixels;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 전체 재구축
+     * 지오코딩으로 보완된 좌표와 동기화된 최신 거래를 주기적으로 반영합니다.
+     */
+    @Scheduled(cron = "${apartment.map-index.refresh-cron:0 */10 * * * *}")
+    public synchronized void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<ApartmentMapper.MapPoint> points = new ArrayList<>();
+            apartmentMapper.findAllForMapIndex(context -> points.add(context.getResultObject()));
+            Snapshot built = Snapshot.build(points);
+            snapshot = built;
+            log.info("[MapIndex] 재구축 완료: apartments={}, elapsedMs={}",
+                    built.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("[MapIndex] 재구축 실패 - 기존 색인 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 시작 시 구축에 실패한 경우 재시도
+     * 조회 경로에서는 구축하지 않으므로(빈 색인 반환) 구축될 때까지 여기서만 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${apartment.map-index.retry-delay-ms:60000}",
+            initialDelayString = "${apartment.map-index.retry-delay-ms:60000}")
+    public void retryIfNotReady() {
+        if (snapshot == null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 화면 영역 내 아파트 또는 클러스터 조회
+     *
+     * @param bbox 화면 영역
+     * @param zoom 확대 수준 (웹 메르카토르 기준, 클수록 확대)
+     */
+    public ApartmentMapResponse query(MapBoundingBox bbox, int zoom) {
+        Snapshot current = snapshot();
+        int[] ids = current.findWithin(bbox);
+        if (zoom > clusterMaxZoom && ids.length <= maxMarkers) {
+            return ApartmentMapResponse.ofMarkers(zoom, current.toMarkers(ids));
+        }
+        double clusterDegrees = 360.0 / (1L << zoom) * clusterPixels / TILE_PIXELS;
+        return ApartmentMapResponse.ofClusters(zoom, ids.length, current.toClusters(ids, clusterDegrees));
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 현재 스냅샷 (구축 전이거나 구축 실패 시 빈 색인)
+     * 요청 스레드가 synchronized rebuild()에 줄 서지 않도록 조회 경로에서는 구축하지 않습니다.
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : Snapshot.EMPTY;
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(long row, long column) {
+        return row * COLUMN_COUNT + column;
+    }
+
+    // =========================================================================
+    // 불변 스냅샷 (셀 키 오름차순으로 정렬된 열 배열)
+    // =========================================================================
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = build(List.of());
+
+        private final long[] cellKeys;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final String[] aptSeqs;
+        private final String[] aptNms;
+        private final long[] dealAmounts;
+        private final int[] dealDates;
+
+        private Snapshot(int size) {
+            this.cellKeys = new long[size];
+            this.latitudes = new double[size];
+            this.longitudes = new double[size];
+            this.aptSeqs = new String[size];
+            this.aptNms = new String[size];
+            this.dealAmounts = new long[size];
+            this.dealDates = new int[size];
+        }
+
+        private static Snapshot build(List<ApartmentMapper.MapPoint> points) {
+            ApartmentMapper.MapPoint[] sorted = points.stream()
+                    .filter(point -> point.aptSeq() != null && point.latitude() != null && point.longitude() != null)
+                    .sorted(Comparator.comparingLong(point -> cellKey(row(point.latitude()), column(point.longitude()))))
+                    .toArray(ApartmentMapper.MapPoint[]::new);
+
+            Snapshot snapshot = new Snapshot(sorted.length);
+            for (int id = 0; id < sorted.length; id++) {
+                ApartmentMapper.MapPoint point = sorted[id];
+                snapshot.cellKeys[id] = cellKey(row(point.latitude()), column(point.longitude()));
+                snapshot.latitudes[id] = point.latitude();
+                snapshot.longitudes[id] = point.longitude();
+                snapshot.aptSeqs[id] = point.aptSeq();
+                snapshot.aptNms[id] = point.aptNm();
+                snapshot.dealAmounts[id] = point.dealAmountNum() != null ? point.dealAmountNum() : NO_DEAL_AMOUNT;
+                snapshot.dealDates[id] = point.dealDate() != null ? (int) point.dealDate().toEpochDay() : NO_DEAL_DATE;
+            }
+            return snapshot;
+        }
+
+        /**
+         * bbox 내 아파트 id 목록
+         * 위도 행마다 [시작 열, 끝 열] 셀 키 범위가 연속 구간이므로 이분 탐색 후 구간만 훑습니다.
+         */
+        private int[] findWithin(MapBoundingBox bbox) {
+            long firstRow = row(bbox.minLat());
+            long lastRow = row(bbox.maxLat());
+            long firstColumn = column(bbox.minLng());
+            long lastColumn = column(bbox.maxLng());
+
+            int[] ids = new int[16];
+            int size = 0;
+            for (long r = firstRow; r <= lastRow; r++) {
+                long upperKey = cellKey(r, lastColumn);
+                for (int id = lowerBound(cellKey(r, firstColumn)); id < cellKeys.length && cellKeys[id] <= upperKey; id++) {
+                    if (!bbox.contains(latitudes[id], longitudes[id])) {
+                        continue;
+                    }
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, size * 2);
+                    }
+                    ids[size++] = id;
+                }
+            }
+            return Arrays.copyOf(ids, size);
+        }
+
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = cellKeys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cellKeys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<ApartmentMapResponse.Marker> toMarkers(int[] ids) {
+            List<ApartmentMapResponse.Marker> markers = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                markers.add(new ApartmentMapResponse.Marker(
+                        aptSeqs[id],
+                        aptNms[id],
+                        latitudes[id],
+                        longitudes[id],
+                        dealAmounts[id] != NO_DEAL_AMOUNT ? dealAmounts[id] : null,
+                        dealDates[id] != NO_DEAL_DATE ? LocalDate.ofEpochDay(dealDates[id]) : null
+                ));
+            }
+            return markers;
+        }
+
+        /**
+         * 클러스터 크기(도) 격자로 묶어 포함 아파트의 평균 좌표/평균 거래금액 계산
+         */
+        private List<ApartmentMapResponse.Cluster> toClusters(int[] ids, double clusterDegrees) {
+            Map<Long, ClusterAccumulator> accumulators = new HashMap<>();
+            long clusterColumns = (long) Math.ceil(360 / clusterDegrees) + 1;
+            for (int id : ids) {
+                long clusterRow = (long) Math.floor((latitudes[id] + 90) / clusterDegrees);
+                long clusterColumn = (long) Math.floor((longitudes[id] + 180) / clusterDegrees);
+                accumulators.computeIfAbsent(clusterRow * clusterColumns + clusterColumn, key -> new ClusterAccumulator())
+                        .add(latitudes[id], longitudes[id], dealAmounts[id]);
+            }
+            return accumulators.values().stream()
+                    .map(ClusterAccumulator::toCluster)
+                    .sorted(Comparator.comparingInt(ApartmentMapResponse.Cluster::count).reversed())
+                    .toList();
+        }
+
+        private int size() {
+            return cellKeys.length;
+        }
+    }
+
+    private static final class ClusterAccumulator {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long dealAmountSum;
+        private int dealCount;
+
+        private void add(double latitude, double longitude, long dealAmount) {
+            count++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            if (dealAmount != NO_DEAL_AMOUNT) {
+                dealAmountSum += dealAmount;
+                dealCount++;
+            }
+        }
+
+        private ApartmentMapResponse.Cluster toCluster() {
+            return new ApartmentMapResponse.Cluster(
+                    latitudeSum / count,
+                    longitudeSum / count,
+                    count,
+                    dealCount > 0 ? Math.round((double) dealAmountSum / dealCount) : null
+            );
+        }
+    }
+}
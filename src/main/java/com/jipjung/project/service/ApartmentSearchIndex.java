@@ -0,0 +1,490 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.repository.ApartmentMapper;
+import com.jipjung.project.service.dto.KeywordCandidates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아파트 키워드 검색용 인메모리 n-gram 역색인
+ * <p>
+ * apartment 테이블의 단지명/읍면동명/도로명을 1~2글자 n-gram으로 색인하여
+ * {@code LIKE '%keyword%'} 전체 스캔 대신 후보 apt_seq 목록을 제공합니다.
+ * 단지명/읍면동명은 초성(예: "ㄹㅁㅇ" → 래미안)으로도 검색할 수 있습니다.
+ *
+ * <h3>구조</h3>
+ * <ul>
+ *   <li>base: 시작 시/주기적으로 DB에서 재구축하는 불변 스냅샷 (posting은 int[])</li>
+ *   <li>delta: 동기화 파이프라인이 추가/변경한 아파트 중 base와 다른 항목만 보관 (선형 탐색, base보다 우선)</li>
+ *   <li>delta가 rebuild-delta-threshold를 넘으면 주기 점검에서 조기 재구축</li>
+ *   <li>다른 인스턴스가 upsert한 아파트는 delta에 없으므로, 후보와 함께 base 스냅샷 기준 시각을 반환하여
+ *       그 이후 변경된 행은 호출 측이 LIKE 조건으로 함께 조회 (초성 검색은 다음 재구축부터 반영)</li>
+ * </ul>
+ * 색인이 준비되지 않았거나 후보가 너무 많으면 {@link Optional#empty()}를 반환하여
+ * 호출 측이 기존 LIKE 조건으로 폴백하도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApartmentSearchIndex {
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNGSEONG_JONGSEONG_COUNT = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    // 스냅샷 조회 시점에 진행 중이던(아직 커밋되지 않은) upsert도 변경분으로 보도록 기준 시각을 앞당김
+    private static final Duration CHANGED_SINCE_MARGIN = Duration.ofMinutes(1);
+
+    private final ApartmentMapper apartmentMapper;
+
+    @Value("${apartment.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${apartment.search-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Value("${apartment.search-index.rebuild-delta-threshold:5000}")
+    private int rebuildDeltaThreshold;
+
+    // add(읽기 잠금)와 재구축 시 base/delta 교체(쓰기 잠금)를 원자적으로 분리
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Snapshot base;
+    private volatile Map<String, Entry> delta = new ConcurrentHashMap<>();
+    private Map<String, Entry> carriedOverDelta = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("[SearchIndex] 비활성화됨 - LIKE 검색 사용");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * DB 기준 전체 재구축
+     * 다른 인스턴스의 동기화 결과도 주기적으로 반영합니다.
+     */
+    @Scheduled(cron = "${apartment.search-index.refresh-cron:0 0 * * * *}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime loadedAt = apartmentMapper.findCurrentTimestamp();
+            List<Apartment> apartments = apartmentMapper.findAllForSearchIndex();
+            Snapshot snapshot = Snapshot.build(apartments, loadedAt.minus(CHANGED_SINCE_MARGIN));
+            int carriedOver = swap(snapshot);
+            log.info("[SearchIndex] 재구축 완료: apartments={}, grams={}, carriedOverDelta={}, elapsedMs={}",
+                    snapshot.size(), snapshot.gramCount(), carriedOver, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("[SearchIndex] 재구축 실패 - 기존 색인 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * delta가 임계치를 넘으면 다음 정기 재구축을 기다리지 않고 재구축
+     * (대량 백필 중 검색이 delta 선형 탐색으로 퇴화하는 것을 방지)
+     */
+    @Scheduled(fixedDelayString = "${apartment.search-index.delta-check-delay-ms:60000}")
+    public void rebuildIfDeltaLarge() {
+        int deltaSize = delta.size();
+        if (enabled && base != null && deltaSize >= rebuildDeltaThreshold) {
+            log.info("[SearchIndex] delta 임계치 초과 - 재구축: delta={}", deltaSize);
+            rebuild();
+        }
+    }
+
+    /**
+     * 동기화 파이프라인에서 upsert된 아파트 반영
+     * base와 내용이 같으면 delta에 넣지 않으며, 도로명이 없으면 기존 색인의 도로명을 유지합니다.
+     * (동기화 upsert는 기존 행의 도로명을 변경하지 않음)
+     */
+    public void add(String aptSeq, String aptNm, String umdNm, String roadNm) {
+        if (!enabled || aptSeq == null) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            Map<String, Entry> currentDelta = delta;
+            Snapshot snapshot = base;
+            Entry existing = currentDelta.get(aptSeq);
+            if (existing == null && snapshot != null) {
+                existing = snapshot.find(aptSeq);
+            }
+            String resolvedRoadNm = roadNm == null && existing != null ? existing.roadText() : roadNm;
+            Entry entry = Entry.of(aptSeq, aptNm, umdNm, resolvedRoadNm);
+
+            Entry baseEntry = snapshot != null ? snapshot.find(aptSeq) : null;
+            if (entry.equals(baseEntry)) {
+                currentDelta.remove(aptSeq);
+            } else {
+                currentDelta.put(aptSeq, entry);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 스냅샷으로 교체하고, 새 스냅샷에 아직 반영되지 않은 delta 항목만 이어서 유지
+     * (스냅샷 조회 시점에 커밋되지 않았던 upsert 보존)
+     * 이전 재구축에서 이미 이어받은 뒤 다시 추가되지 않은 항목은 롤백된 것으로 보고 버립니다.
+     *
+     * @return 이어서 유지한 delta 항목 수
+     */
+    private int swap(Snapshot snapshot) {
+        swapLock.writeLock().lock();
+        try {
+            Map<String, Entry> nextDelta = new ConcurrentHashMap<>();
+            for (Entry entry : delta.values()) {
+                boolean reflected = entry.equals(snapshot.find(entry.aptSeq()));
+                boolean staleCarryOver = carriedOverDelta.get(entry.aptSeq()) == entry;
+                if (!reflected && !staleCarryOver) {
+                    nextDelta.put(entry.aptSeq(), entry);
+                }
+            }
+            base = snapshot;
+            delta = nextDelta;
+            carriedOverDelta = Map.copyOf(nextDelta);
+            return nextDelta.size();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드에 매칭되는 apt_seq 후보 조회
+     *
+     * @param keyword 검색어 (일반 문자열 또는 초성)
+     * @return 후보 apt_seq 목록과 스냅샷 기준 시각, 색인 미준비/후보 초과 시 empty (LIKE 폴백)
+     */
+    public Optional<KeywordCandidates> search(String keyword) {
+        Snapshot snapshot = base;
+        Map<String, Entry> currentDelta = delta;
+        if (!enabled || snapshot == null || keyword == null) {
+            return Optional.empty();
+        }
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean choseongQuery = isChoseongQuery(query);
+        Set<String> matches = new LinkedHashSet<>();
+        if (!snapshot.collect(query, choseongQuery, maxCandidates, currentDelta, matches)) {
+            return Optional.empty();
+        }
+        for (Entry entry : currentDelta.values()) {
+            if (entry.matches(query, choseongQuery)) {
+                matches.add(entry.aptSeq());
+                if (matches.size() > maxCandidates) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(new KeywordCandidates(List.copyOf(matches), snapshot.changedSince()));
+    }
+
+    public boolean isReady() {
+        return enabled && base != null;
+    }
+
+    // =========================================================================
+    // 문자열 정규화 / 초성
+    // =========================================================================
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String toChoseong(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                builder.append(CHOSEONG[(c - HANGUL_BASE) / JUNGSEONG_JONGSEONG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 검색 여부: 완성형 한글 없이 자음(ㄱ~ㅎ)이 하나 이상 포함된 경우
+     */
+    private static boolean isChoseongQuery(String query) {
+        boolean hasJamo = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                return false;
+            }
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                hasJamo = true;
+            }
+        }
+        return hasJamo;
+    }
+
+    /**
+     * 1~2글자 n-gram (필드 구분자를 포함한 gram은 제외)
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(String.valueOf(c));
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 질의 gram: 1글자면 unigram, 그 외는 bigram 전체 (교집합 후 contains로 검증)
+     */
+    private static List<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return List.of(query);
+        }
+        List<String> grams = new ArrayList<>(query.length() - 1);
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // =========================================================================
+    // 내부 구조
+    // =========================================================================
+
+    /**
+     * 색인 항목
+     *
+     * @param aptSeq   아파트코드
+     * @param text     정규화된 단지명/읍면동명/도로명 (구분자로 연결)
+     * @param choseong 단지명/읍면동명 초성 (구분자로 연결)
+     */
+    private record Entry(String aptSeq, String text, String choseong) {
+
+        private static Entry of(String aptSeq, String aptNm, String umdNm, String roadNm) {
+            String name = normalize(aptNm);
+            String dong = normalize(umdNm);
+            String text = name + FIELD_SEPARATOR + dong + FIELD_SEPARATOR + normalize(roadNm);
+            String choseong = toChoseong(name) + FIELD_SEPARATOR + toChoseong(dong);
+            return new Entry(aptSeq, text, choseong);
+        }
+
+        private boolean matches(String query, boolean choseongQuery) {
+            return choseongQuery ? choseong.contains(query) : text.contains(query);
+        }
+
+        /**
+         * 정규화된 도로명 (text의 마지막 필드)
+         */
+        private String roadText() {
+            return text.substring(text.lastIndexOf(FIELD_SEPARATOR) + 1);
+        }
+    }
+
+    /**
+     * 불변 색인 스냅샷 (gram → 정렬된 entry id 배열, entry id는 apt_seq 오름차순)
+     */
+    private static final class Snapshot {
+
+        private final Entry[] entries;
+        private final Map<String, int[]> textPostings;
+        private final Map<String, int[]> choseongPostings;
+        private final LocalDateTime changedSince;
+
+        private Snapshot(Entry[] entries, Map<String, int[]> textPostings, Map<String, int[]> choseongPostings,
+                         LocalDateTime changedSince) {
+            this.entries = entries;
+            this.textPostings = textPostings;
+            this.choseongPostings = choseongPostings;
+            this.changedSince = changedSince;
+        }
+
+        /**
+         * @param changedSince 이 시각 이후 변경된 아파트는 스냅샷에 없을 수 있음 (DB 시각)
+         */
+        private static Snapshot build(Collection<Apartment> apartments, LocalDateTime changedSince) {
+            Entry[] entries = apartments.stream()
+                    .filter(apartment -> apartment.getAptSeq() != null)
+                    .map(apartment -> Entry.of(
+                            apartment.getAptSeq(),
+                            apartment.getAptNm(),
+                            apartment.getUmdNm(),
+                            apartment.getRoadNm()))
+                    .sorted(Comparator.comparing(Entry::aptSeq))
+                    .toArray(Entry[]::new);
+
+            Map<String, IntList> text = new HashMap<>();
+            Map<String, IntList> choseong = new HashMap<>();
+            for (int id = 0; id < entries.length; id++) {
+                for (String gram : grams(entries[id].text())) {
+                    text.computeIfAbsent(gram, key -> new IntList()).add(id);
+                }
+                for (String gram : grams(entries[id].choseong())) {
+                    choseong.computeIfAbsent(gram, key -> new IntList()).add(id);
+                }
+            }
+            return new Snapshot(entries, freeze(text), freeze(choseong), changedSince);
+        }
+
+        private static Map<String, int[]> freeze(Map<String, IntList> postings) {
+            Map<String, int[]> frozen = new HashMap<>(postings.size() * 4 / 3 + 1);
+            postings.forEach((gram, ids) -> frozen.put(gram, ids.toArray()));
+            return Map.copyOf(frozen);
+        }
+
+        /**
+         * apt_seq로 항목 조회 (이분 탐색)
+         */
+        private Entry find(String aptSeq) {
+            int low = 0;
+            int high = entries.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compared = entries[mid].aptSeq().compareTo(aptSeq);
+                if (compared == 0) {
+                    return entries[mid];
+                }
+                if (compared < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * delta에 있는 아파트는 delta 항목 기준으로 판정하므로 base 매칭에서 제외
+         *
+         * @return 후보 수가 상한 이내면 true (matches에 추가), 초과하면 false
+         */
+        private boolean collect(String query, boolean choseongQuery, int limit,
+                                Map<String, Entry> overrides, Set<String> matches) {
+            Map<String, int[]> postings = choseongQuery ? choseongPostings : textPostings;
+            List<int[]> lists = new ArrayList<>();
+            for (String gram : queryGrams(query)) {
+                int[] ids = postings.get(gram);
+                if (ids == null) {
+                    return true;
+                }
+                lists.add(ids);
+            }
+            lists.sort((left, right) -> Integer.compare(left.length, right.length));
+
+            int[] candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+            for (int id : candidates) {
+                Entry entry = entries[id];
+                if (!overrides.containsKey(entry.aptSeq()) && entry.matches(query, choseongQuery)) {
+                    matches.add(entry.aptSeq());
+                    if (matches.size() > limit) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] == right[j]) {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                } else if (left[i] < right[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private int size() {
+            return entries.length;
+        }
+
+        private LocalDateTime changedSince() {
+            return changedSince;
+        }
+
+        private int gramCount() {
+            return textPostings.size() + choseongPostings.size();
+        }
+    }
+
+    /**
+     * 박싱 없는 int 누적 버퍼 (색인 구축용)
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
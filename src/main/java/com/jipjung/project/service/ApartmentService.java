@@ -8,13 +8,17 @@ import com.jipjung.project.controller.dto.request.FavoriteRequest;
 import com.jipjung.project.controller.dto.response.ApartmentDetailResponse;
 import com.jipjung.project.controller.dto.response.ApartmentListPageResponse;
 import com.jipjung.project.controller.dto.response.ApartmentListResponse;
+import com.jipjung.project.controller.dto.response.ApartmentMapResponse;
 import com.jipjung.project.controller.dto.response.FavoriteResponse;
 import com.jipjung.project.controller.dto.response.RegionCoordinatesResponse;
 import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.domain.ApartmentDeal;
 import com.jipjung.project.domain.FavoriteApartment;
 import com.jipjung.project.repository.ApartmentMapper;
-import com.jipjung.project.repository.DongcodeMapper;
 import com.jipjung.project.repository.FavoriteApartmentMapper;
+import com.jipjung.project.service.dto.ApartmentSearchCursor;
+import com.jipjung.project.service.dto.KeywordCandidates;
+import com.jipjung.project.service.dto.MapBoundingBox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -31,32 +36,88 @@ public class ApartmentService {
 
     private final ApartmentMapper apartmentMapper;
     private final FavoriteApartmentMapper favoriteApartmentMapper;
-    private final DongcodeMapper dongcodeMapper;
+    private final RegionDictionary regionDictionary;
     private final ApartmentWarmupService apartmentWarmupService;
+    private final ApartmentSearchIndex apartmentSearchIndex;
+    private final ApartmentMapIndex apartmentMapIndex;
+    private final ApartmentDetailCache apartmentDetailCache;
 
-    /**
-     * 아파트 목록 조회 (검색 및 페이징)
-     * 각 아파트의 최신 실거래 1건 포함
-     * 
+    /**
+     * 아파트 목록 조회 (검색 및 페이징)
+     * 각 아파트의 최신 실거래 1건 포함
+     * 
+     * cursor 지정 시 (deal_date, apt_seq) keyset 페이징으로 이어서 조회하며 전체 개수 조회는 생략
+     * (거래 조건이 없으면 인덱스 순서로 seek, 거래 조건이 있으면 정렬은 남고 OFFSET만 제거)
      * Fallback: lawdCd 있고 DB 결과 없을 시 비동기 워밍 트리거
      */
     @Transactional(readOnly = true)
     public ApartmentListPageResponse searchApartments(ApartmentSearchRequest request) {
         ApartmentSearchRequest resolvedRequest = resolveSearchRequest(request);
-        List<Apartment> apartments = apartmentMapper.findAllWithLatestDeal(resolvedRequest);
-        int totalCount = apartmentMapper.count(resolvedRequest);
+        ApartmentSearchCursor cursor = request.hasCursor() ? ApartmentSearchCursor.decode(request.cursor()) : null;
+        KeywordCandidates keywordCandidates = resolveKeywordCandidates(resolvedRequest.keyword());
+        List<Apartment> fetched = cursor != null && !resolvedRequest.hasDealConditions()
+                ? findPageAfter(resolvedRequest, cursor, keywordCandidates)
+                : apartmentMapper.findAllWithLatestDeal(resolvedRequest, cursor, keywordCandidates);
+
+        // size + 1건 조회 결과로 다음 페이지 존재 여부 판단
+        boolean hasNext = fetched.size() > request.size();
+        List<Apartment> apartments = hasNext ? fetched.subList(0, request.size()) : fetched;
+        String nextCursor = hasNext ? toCursor(apartments.get(apartments.size() - 1)).encode() : null;
 
-        // Fallback: lawdCd 있고 결과 없을 때 API 호출
-        if (apartments.isEmpty() && resolvedRequest.lawdCd() != null && !resolvedRequest.lawdCd().isBlank()) {
+        // Fallback: 첫 페이지에서 lawdCd 있고 결과 없을 때 API 호출
+        if (cursor == null && apartments.isEmpty()
+                && resolvedRequest.lawdCd() != null && !resolvedRequest.lawdCd().isBlank()) {
             String dealYmd = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
             apartmentWarmupService.warmupIfMissing(resolvedRequest.lawdCd(), dealYmd);
         }
+
+        List<ApartmentListResponse> responses = apartments.stream()
+                .map(apt -> ApartmentListResponse.from(apt, apt.getLatestDeal()))
+                .toList();
+
+        if (cursor != null) {
+            return ApartmentListPageResponse.ofCursor(responses, request.size(), nextCursor);
+        }
+        int totalCount = apartmentMapper.count(resolvedRequest, keywordCandidates);
+        return ApartmentListPageResponse.of(responses, totalCount, request.page(), request.size(), nextCursor);
+    }
+
+    /**
+     * 키워드 검색 후보 조회 (n-gram/초성 색인)
+     * 키워드가 없거나 색인을 사용할 수 없으면 null을 반환하여 LIKE 검색으로 폴백
+     */
+    private KeywordCandidates resolveKeywordCandidates(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return apartmentSearchIndex.search(keyword).orElse(null);
+    }
+
+    /**
+     * keyset 다음 페이지 조회 (size + 1건)
+     * 최신 거래가 있는 구간을 거래일 인덱스 순으로 읽고, 모자라면 거래 없는 구간을 apt_seq 순으로 이어 읽습니다.
+     */
+    private List<Apartment> findPageAfter(ApartmentSearchRequest request,
+                                          ApartmentSearchCursor cursor,
+                                          KeywordCandidates keywordCandidates) {
+        int limit = request.size() + 1;
+        List<Apartment> fetched = new ArrayList<>(limit);
+        if (cursor.dealDate() != null) {
+            fetched.addAll(apartmentMapper.findLatestDealPageAfter(request, cursor, keywordCandidates, limit));
+            if (fetched.size() >= limit) {
+                return fetched;
+            }
+        }
+        String afterAptSeq = cursor.dealDate() != null ? null : cursor.aptSeq();
+        fetched.addAll(apartmentMapper.findWithoutDealPageAfter(
+                request, afterAptSeq, keywordCandidates, limit - fetched.size()));
+        return fetched;
+    }
 
-        List<ApartmentListResponse> responses = apartments.stream()
-                .map(apt -> ApartmentListResponse.from(apt, apt.getLatestDeal()))
-                .toList();
-
-        return ApartmentListPageResponse.of(responses, totalCount, request.page(), request.size());
+    private ApartmentSearchCursor toCursor(Apartment apartment) {
+        ApartmentDeal latestDeal = apartment.getLatestDeal();
+        LocalDate dealDate = latestDeal != null ? latestDeal.getDealDate() : null;
+        return new ApartmentSearchCursor(dealDate, apartment.getAptSeq());
     }
 
     private ApartmentSearchRequest resolveSearchRequest(ApartmentSearchRequest request) {
@@ -79,18 +140,8 @@ public class ApartmentService {
         }
 
         String sido = normalizeToNull(request.sido());
-        String normalizedSido = normalizeSidoName(sido);
-        String resolved = normalizedSido != null
-                ? dongcodeMapper.findLawdCdByRegion(normalizedSido, sigungu)
-                : null;
-
-        if (resolved == null && sido != null && !sido.equals(normalizedSido)) {
-            resolved = dongcodeMapper.findLawdCdByRegion(sido, sigungu);
-        }
-
-        if (resolved == null && sido == null) {
-            resolved = dongcodeMapper.findLawdCdBySigungu(sigungu);
-        }
+        // 시도 구/신 명칭(강원도 ↔ 강원특별자치도 등)은 지역 사전에서 맞춤
+        String resolved = regionDictionary.findLawdCd(sido, sigungu);
 
         if (resolved == null) {
             log.warn("[Search] lawdCd 해석 실패: sido={}, sigungu={}", sido, sigungu);
@@ -99,21 +150,6 @@ public class ApartmentService {
         return resolved;
     }
 
-    private String normalizeSidoName(String sido) {
-        if (sido == null) {
-            return null;
-        }
-        String trimmed = sido.trim();
-        if (trimmed.isEmpty()) {
-            return null;
-        }
-        return switch (trimmed) {
-            case "강원특별자치도" -> "강원도";
-            case "전북특별자치도" -> "전라북도";
-            default -> trimmed;
-        };
-    }
-
     private String normalizeToNull(String value) {
         if (value == null) {
             return null;
@@ -125,13 +161,15 @@ public class ApartmentService {
     /**
      * 아파트 상세 조회
      * 해당 아파트의 모든 실거래 이력 포함
+     * 응답은 ApartmentDetailCache에 보관되며, 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 조회
      */
-    @Transactional(readOnly = true)
     public ApartmentDetailResponse getApartmentDetail(String aptSeq) {
-        Apartment apartment = apartmentMapper.findByAptSeqWithDeals(aptSeq)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.APARTMENT_NOT_FOUND));
+        return apartmentDetailCache.get(aptSeq, () -> {
+            Apartment apartment = apartmentMapper.findByAptSeqWithDeals(aptSeq)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.APARTMENT_NOT_FOUND));
 
-        return ApartmentDetailResponse.from(apartment, apartment.getDeals());
+            return ApartmentDetailResponse.from(apartment, apartment.getDeals());
+        });
     }
 
     /**
@@ -228,6 +266,22 @@ public class ApartmentService {
         return coords;
     }
 
+    /**
+     * 지도 화면 영역 내 아파트 조회
+     * 확대 수준이 낮거나 아파트가 많으면 서버에서 묶은 클러스터를 반환합니다.
+     *
+     * @param bbox 화면 영역 (minLng,minLat,maxLng,maxLat)
+     * @param zoom 확대 수준 (1~21, 클수록 확대)
+     * @return 영역 내 아파트(최신 거래 포함) 또는 클러스터
+     */
+    public ApartmentMapResponse getMapApartments(String bbox, int zoom) {
+        if (zoom < ApartmentMapIndex.MIN_ZOOM || zoom > ApartmentMapIndex.MAX_ZOOM) {
+            throw new IllegalArgumentException("zoom은 " + ApartmentMapIndex.MIN_ZOOM + "~"
+                    + ApartmentMapIndex.MAX_ZOOM + " 사이여야 합니다");
+        }
+        return apartmentMapIndex.query(MapBoundingBox.parse(bbox), zoom);
+    }
+
     /**
      * 입력 문자열에서 구/군명을 추출해 정규화
      * - "서울특별시 강남구" -> "강남구"
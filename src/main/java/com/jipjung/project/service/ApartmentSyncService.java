@@ -5,6 +5,7 @@ import com.jipjung.project.domain.ApartmentDeal;
 import com.jipjung.project.external.molit.MolitApiClient;
 import com.jipjung.project.external.molit.MolitDealResponse;
 import com.jipjung.project.repository.ApartmentDealMapper;
+import com.jipjung.project.repository.ApartmentLatestDealMapper;
 import com.jipjung.project.repository.ApartmentMapper;
 import com.jipjung.project.repository.MolitSyncHistoryMapper;
 import com.jipjung.project.service.dto.SyncResult;
@@ -12,14 +13,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -34,8 +43,12 @@ public class ApartmentSyncService {
     private final MolitApiClient molitApiClient;
     private final ApartmentMapper apartmentMapper;
     private final ApartmentDealMapper apartmentDealMapper;
+    private final ApartmentLatestDealMapper apartmentLatestDealMapper;
     private final MolitSyncHistoryMapper syncHistoryMapper;
-    private final ApartmentGeocodingService apartmentGeocodingService;
+    private final GeocodeQueueService geocodeQueueService;
+    private final ApartmentSearchIndex apartmentSearchIndex;
+    private final ApartmentDetailCache apartmentDetailCache;
+    private final RegionPriceStatsService regionPriceStatsService;
 
     @Value("${molit.api.sync-cooldown-hours:24}")
     private int syncCooldownHours;
@@ -46,7 +59,17 @@ public class ApartmentSyncService {
     @Value("${molit.api.admin-enabled:true}")
     private boolean adminEnabled;
 
+    @Value("${molit.api.sync-batch-size:500}")
+    private int syncBatchSize;
+
+    @Value("${apartment.latest-deal.rebuild-on-startup:true}")
+    private boolean latestDealRebuildOnStartup;
+
+    @Value("${apartment.latest-deal.rebuild-chunk-size:500}")
+    private int latestDealRebuildChunkSize;
+
     private static final String DEFAULT_LAWD_CD = "11680";  // 강남구
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
 
     /**
      * 초기 동기화 (관리자 수동 트리거)
@@ -102,6 +125,56 @@ public class ApartmentSyncService {
         return result.syncedCount() > 0;
     }
 
+    /**
+     * 시작 시 최신 거래 projection이 비어 있으면 재구축 (초기 적재 데이터 / 신규 배포)
+     * 목록 검색과 지도 색인이 projection을 조인하므로 지도 색인 초기 구축보다 먼저 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initializeLatestDeals() {
+        if (!latestDealRebuildOnStartup) {
+            return;
+        }
+        try {
+            if (apartmentLatestDealMapper.count() == 0) {
+                rebuildLatestDeals();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Sync] 시작 시 최신 거래 projection 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최신 거래 projection 재구축 (시작 시 / 관리자 수동 트리거)
+     * <p>
+     * 테이블을 비우지 않고 apt_seq 순서의 청크 단위로 upsert한 뒤, 거래가 없어진 아파트만 마지막에 정리합니다.
+     * 청크마다 바로 커밋되므로 재구축 중에도 조회 측은 이전 값 또는 새 값을 보며,
+     * 동기화의 아파트 단위 갱신(refreshByAptSeqs)도 해당 청크 동안만 대기합니다.
+     *
+     * @return 갱신된 아파트 수
+     */
+    public int rebuildLatestDeals() {
+        long startedAt = System.currentTimeMillis();
+        int chunkSize = Math.max(1, latestDealRebuildChunkSize);
+        int rebuilt = 0;
+        String afterAptSeq = null;
+        List<String> aptSeqs;
+        do {
+            aptSeqs = apartmentLatestDealMapper.findAptSeqsAfter(afterAptSeq, chunkSize);
+            if (aptSeqs.isEmpty()) {
+                break;
+            }
+            apartmentLatestDealMapper.refreshByAptSeqs(aptSeqs);
+            rebuilt += aptSeqs.size();
+            afterAptSeq = aptSeqs.get(aptSeqs.size() - 1);
+        } while (aptSeqs.size() == chunkSize);
+
+        int removed = apartmentLatestDealMapper.deleteOrphans();
+        log.info("[Sync] 최신 거래 projection 재구축 완료: apartments={}, removed={}, elapsedMs={}",
+                rebuilt, removed, System.currentTimeMillis() - startedAt);
+        return rebuilt;
+    }
+
     /**
      * Fallback 활성화 여부
      */
@@ -109,8 +182,16 @@ public class ApartmentSyncService {
         return fallbackEnabled;
     }
 
+    /**
+     * 관리자 동기화(수동/백필) 활성화 여부
+     */
+    public boolean isAdminEnabled() {
+        return adminEnabled;
+    }
+
     /**
      * 핵심 동기화 로직
+     * 정규화된 거래를 청크 단위로 모아 multi-row upsert/insert로 저장
      */
     private SyncResult syncRegionMonth(String lawdCd, String dealYmd) {
         try {
@@ -123,70 +204,190 @@ public class ApartmentSyncService {
                 return SyncResult.success(lawdCd, dealYmd, 0, 0);
             }
 
-            // 2. 저장
-            int syncedCount = 0;
-            int skippedCount = 0;
-            Set<String> geocodeChecked = new HashSet<>();
+            // 2. 정규화 + 청크 저장
+            int chunkSize = Math.max(1, syncBatchSize);
+            int filteredCount = 0;
+            List<NormalizedDeal> buffer = new ArrayList<>(chunkSize);
+            List<SyncResult.ChunkResult> chunks = new ArrayList<>();
+            Set<String> geocodeEnqueued = new HashSet<>();
 
             for (MolitDealResponse deal : deals) {
                 // 해제 거래 스킵
                 if (deal.isCanceledDeal()) {
                     log.debug("[Sync] 해제 거래 스킵: aptNm={}", deal.getAptNm());
-                    skippedCount++;
+                    filteredCount++;
+                    continue;
+                }
+
+                NormalizedDeal normalized = normalizeDeal(deal, lawdCd);
+                if (!normalized.isValid()) {
+                    log.warn("[Sync] 필수 값 누락 - 스킵: lawdCd={}, aptNm={}, dealAmount={}",
+                            lawdCd, normalized.aptNm(), normalized.dealAmount());
+                    filteredCount++;
                     continue;
                 }
 
-                try {
-                    boolean saved = saveDeal(deal, lawdCd, geocodeChecked);
-                    if (saved) {
-                        syncedCount++;
-                    } else {
-                        skippedCount++;
-                    }
-                } catch (Exception e) {
-                    log.warn("[Sync] 개별 저장 실패: aptNm={}, error={}", deal.getAptNm(), e.getMessage());
-                    skippedCount++;
+                buffer.add(normalized);
+                if (buffer.size() >= chunkSize) {
+                    chunks.add(saveChunk(chunks.size(), buffer, geocodeEnqueued));
+                    buffer.clear();
                 }
             }
+            if (!buffer.isEmpty()) {
+                chunks.add(saveChunk(chunks.size(), buffer, geocodeEnqueued));
+            }
+
+            int syncedCount = chunks.stream().mapToInt(SyncResult.ChunkResult::syncedCount).sum();
+            int skippedCount = filteredCount + chunks.stream().mapToInt(SyncResult.ChunkResult::skippedCount).sum();
 
-            // 3. 이력 기록
+            // 3. 지역 시세 통계 갱신 (신규 거래가 있는 경우만)
+            if (syncedCount > 0) {
+                refreshRegionPriceStats(lawdCd, dealYmd);
+            }
+
+            // 4. 이력 기록
             syncHistoryMapper.insertOrUpdate(lawdCd, dealYmd, syncedCount);
             
-            log.info("[Sync] 완료: lawdCd={}, dealYmd={}, synced={}, skipped={}",
-                    lawdCd, dealYmd, syncedCount, skippedCount);
+            log.info("[Sync] 완료: lawdCd={}, dealYmd={}, synced={}, skipped={}, chunks={}",
+                    lawdCd, dealYmd, syncedCount, skippedCount, chunks.size());
             
-            return SyncResult.success(lawdCd, dealYmd, syncedCount, skippedCount);
+            return SyncResult.success(lawdCd, dealYmd, syncedCount, skippedCount, chunks);
 
         } catch (Exception e) {
             log.error("[Sync] 동기화 실패: lawdCd={}, dealYmd={}, error={}",
                     lawdCd, dealYmd, e.getMessage(), e);
+            recordFailure(lawdCd, dealYmd, e.getMessage());
             return SyncResult.error(lawdCd, dealYmd, e.getMessage());
         }
     }
 
+    /**
+     * 지역 시세 통계 갱신 (실패해도 동기화 결과는 유지, 다음 동기화/재구축 시 다시 계산)
+     */
+    private void refreshRegionPriceStats(String lawdCd, String dealYmd) {
+        try {
+            regionPriceStatsService.refresh(lawdCd, dealYmd);
+        } catch (Exception e) {
+            log.warn("[Sync] 지역 시세 통계 갱신 실패: lawdCd={}, dealYmd={}, error={}", lawdCd, dealYmd, e.getMessage());
+        }
+    }
+
+    /**
+     * 실패 이력 기록 (FAILED 상태는 Fallback/백필에서 재시도 대상)
+     */
+    private void recordFailure(String lawdCd, String dealYmd, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+        try {
+            syncHistoryMapper.markFailed(lawdCd, dealYmd, message);
+        } catch (Exception e) {
+            log.warn("[Sync] 실패 이력 기록 실패: lawdCd={}, dealYmd={}, error={}", lawdCd, dealYmd, e.getMessage());
+        }
+    }
+
+    /**
+     * 청크 저장
+     * 일괄 저장이 실패하면 같은 청크를 개별 저장으로 재시도 (upsert/INSERT IGNORE라 재실행 안전)
+     */
+    private SyncResult.ChunkResult saveChunk(int index, List<NormalizedDeal> chunk, Set<String> geocodeEnqueued) {
+        try {
+            int synced = saveChunkBatch(chunk, geocodeEnqueued);
+            log.debug("[Sync] 청크 저장: index={}, size={}, synced={}", index, chunk.size(), synced);
+            return new SyncResult.ChunkResult(index, chunk.size(), synced, chunk.size() - synced, true);
+        } catch (Exception e) {
+            log.warn("[Sync] 청크 일괄 저장 실패 - 개별 저장으로 재시도: index={}, size={}, error={}",
+                    index, chunk.size(), e.getMessage());
+        }
+
+        int synced = 0;
+        for (NormalizedDeal normalized : chunk) {
+            try {
+                if (saveDeal(normalized, geocodeEnqueued)) {
+                    synced++;
+                }
+            } catch (Exception e) {
+                log.warn("[Sync] 개별 저장 실패: aptNm={}, error={}", normalized.aptNm(), e.getMessage());
+            }
+        }
+        return new SyncResult.ChunkResult(index, chunk.size(), synced, chunk.size() - synced, false);
+    }
+
+    /**
+     * 청크 일괄 저장 (아파트 multi-row upsert + 거래 multi-row INSERT IGNORE)
+     *
+     * @return 신규 저장된 거래 수
+     */
+    private int saveChunkBatch(List<NormalizedDeal> chunk, Set<String> geocodeEnqueued) {
+        // 1. 아파트/거래 엔티티 구성 (같은 아파트는 마지막 값 기준 1건으로 병합)
+        Map<String, Apartment> apartments = new LinkedHashMap<>();
+        List<ApartmentDeal> dealEntities = new ArrayList<>(chunk.size());
+        for (NormalizedDeal normalized : chunk) {
+            String aptSeq = generateAptSeq(normalized);
+            apartments.put(aptSeq, toApartment(aptSeq, normalized));
+            dealEntities.add(toDealEntity(aptSeq, normalized));
+        }
+
+        // 2. 아파트 일괄 Upsert
+        apartmentMapper.upsertBatch(new ArrayList<>(apartments.values()));
+        for (Apartment apartment : apartments.values()) {
+            apartmentSearchIndex.add(apartment.getAptSeq(), apartment.getAptNm(), apartment.getUmdNm(), apartment.getRoadNm());
+        }
+        enqueueGeocodingIfFirstSeen(apartments.keySet(), geocodeEnqueued);
+
+        // 3. 거래 일괄 Insert (중복은 DB 유니크 + INSERT IGNORE로 무시)
+        int inserted = apartmentDealMapper.insertIgnoreBatch(dealEntities);
+
+        // 4. 최신 거래 projection 갱신 + 상세 캐시 무효화 (신규 거래가 있을 때만)
+        if (inserted > 0) {
+            apartmentLatestDealMapper.refreshByAptSeqs(new ArrayList<>(apartments.keySet()));
+            apartmentDetailCache.invalidate(apartments.keySet());
+        }
+        return inserted;
+    }
+
     /**
      * 개별 거래 저장 (아파트 upsert + 거래 insert)
+     * 청크 일괄 저장 실패 시 재시도 경로
      *
      * @return true if saved, false if duplicate
      */
-    private boolean saveDeal(MolitDealResponse deal, String lawdCd, Set<String> geocodeChecked) {
-        NormalizedDeal normalized = normalizeDeal(deal, lawdCd);
-        if (!normalized.isValid()) {
-            log.warn("[Sync] 필수 값 누락 - 스킵: lawdCd={}, aptNm={}, dealAmount={}",
-                    lawdCd, normalized.aptNm(), normalized.dealAmount());
+    private boolean saveDeal(NormalizedDeal normalized, Set<String> geocodeEnqueued) {
+        // 1. apt_seq 생성
+        String aptSeq = generateAptSeq(normalized);
+
+        // 2. 아파트 Upsert
+        Apartment apartment = toApartment(aptSeq, normalized);
+        apartmentMapper.upsert(apartment);
+        apartmentSearchIndex.add(aptSeq, apartment.getAptNm(), apartment.getUmdNm(), apartment.getRoadNm());
+        enqueueGeocodingIfFirstSeen(List.of(aptSeq), geocodeEnqueued);
+
+        // 3. 거래 Insert (중복은 DB 유니크 + INSERT IGNORE로 무시)
+        int inserted = apartmentDealMapper.insert(toDealEntity(aptSeq, normalized));
+        if (inserted == 0) {
+            log.debug("[Sync] 중복 거래 스킵: aptSeq={}", aptSeq);
             return false;
         }
 
-        // 1. apt_seq 생성
-        String aptSeq = generateAptSeq(
-                normalized.sggCd(),
-                normalized.umdNm(),
-                normalized.aptNm(),
-                normalized.jibun()
-        );
+        // 4. 최신 거래 projection 갱신 + 상세 캐시 무효화 (신규 거래가 들어온 아파트만)
+        apartmentLatestDealMapper.refreshByAptSeq(aptSeq);
+        apartmentDetailCache.invalidate(List.of(aptSeq));
+        return true;
+    }
 
-        // 2. 아파트 Upsert
-        Apartment apartment = Apartment.builder()
+    /**
+     * 이번 동기화에서 처음 본 아파트를 좌표 보완 대기열에 적재
+     * Kakao 호출은 GeocodeQueueService가 트랜잭션 밖에서 처리
+     */
+    private void enqueueGeocodingIfFirstSeen(Collection<String> aptSeqs, Set<String> geocodeEnqueued) {
+        List<String> firstSeen = aptSeqs.stream()
+                .filter(geocodeEnqueued::add)
+                .toList();
+        geocodeQueueService.enqueue(firstSeen);
+    }
+
+    private Apartment toApartment(String aptSeq, NormalizedDeal normalized) {
+        return Apartment.builder()
                 .aptSeq(aptSeq)
                 .sggCd(normalized.sggCd())
                 .umdNm(normalized.umdNm())
@@ -194,21 +395,10 @@ public class ApartmentSyncService {
                 .jibun(normalized.jibun())
                 .buildYear(normalized.buildYear())
                 .build();
+    }
 
-        apartmentMapper.upsert(apartment);
-
-        if (geocodeChecked.add(aptSeq)) {
-            apartmentGeocodingService.updateCoordinatesIfMissing(
-                    aptSeq,
-                    normalized.sggCd(),
-                    normalized.umdNm(),
-                    normalized.jibun(),
-                    normalized.aptNm()
-            );
-        }
-
-        // 3. 거래 Insert (중복은 DB 유니크 + INSERT IGNORE로 무시)
-        ApartmentDeal dealEntity = ApartmentDeal.builder()
+    private ApartmentDeal toDealEntity(String aptSeq, NormalizedDeal normalized) {
+        return ApartmentDeal.builder()
                 .aptSeq(aptSeq)
                 .aptDong(normalized.aptDong())
                 .floor(normalized.floor())
@@ -218,13 +408,15 @@ public class ApartmentSyncService {
                 .excluUseAr(normalized.excluUseAr())
                 .dealAmount(normalized.dealAmount())
                 .build();
+    }
 
-        int inserted = apartmentDealMapper.insert(dealEntity);
-        if (inserted == 0) {
-            log.debug("[Sync] 중복 거래 스킵: aptSeq={}", aptSeq);
-            return false;
-        }
-        return true;
+    private String generateAptSeq(NormalizedDeal normalized) {
+        return generateAptSeq(
+                normalized.sggCd(),
+                normalized.umdNm(),
+                normalized.aptNm(),
+                normalized.jibun()
+        );
     }
 
     /**
@@ -1,25 +1,103 @@
 package com.jipjung.project.service;
 
-import lombok.RequiredArgsConstructor;
+import com.jipjung.project.service.dto.WarmupStats;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * 아파트 데이터 비동기 워밍 서비스
  * 요청 응답을 블로킹하지 않고 MOLIT 동기화를 트리거합니다.
+ * <p>
+ * 동기화 이력은 동기화가 끝나야 기록되므로, 같은 지역/년월 요청이 동시에 몰리면
+ * 모두 이력 체크를 통과해 중복 호출이 발생할 수 있습니다.
+ * (lawdCd, dealYmd) 단위 single-flight 레지스트리에 제출 전에 자리를 먼저 예약하여
+ * 진행 중인 동기화가 있으면 새로 제출하지 않고 그 결과에 합류시킵니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ApartmentWarmupService {
 
     private final ApartmentSyncService syncService;
+    private final Executor warmupExecutor;
+
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ApartmentWarmupService(ApartmentSyncService syncService,
+                                  @Qualifier("molitWarmupExecutor") Executor warmupExecutor) {
+        this.syncService = syncService;
+        this.warmupExecutor = warmupExecutor;
+    }
+
+    /**
+     * 데이터가 없는 지역/년월 비동기 동기화
+     *
+     * @return 동기화 결과 (신규 거래 저장 여부), 거절되거나 Fallback 비활성화 시 false
+     */
+    public CompletableFuture<Boolean> warmupIfMissing(String lawdCd, String dealYmd) {
+        requested.incrementAndGet();
+        if (!syncService.isFallbackEnabled()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        String key = lawdCd + ":" + dealYmd;
+        CompletableFuture<Boolean> reservation = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(key, reservation);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            log.debug("[Warmup] 진행 중인 동기화에 합류: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+            return existing;
+        }
+
+        try {
+            warmupExecutor.execute(() -> run(key, lawdCd, dealYmd, reservation));
+            started.incrementAndGet();
+            log.info("[Warmup] 비동기 동기화 트리거: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, reservation);
+            rejected.incrementAndGet();
+            log.warn("[Warmup] 워커 풀 포화로 동기화 거절: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+            reservation.complete(false);
+        }
+        return reservation;
+    }
+
+    /**
+     * 워밍 통계
+     */
+    public WarmupStats getStats() {
+        return new WarmupStats(
+                requested.get(),
+                started.get(),
+                coalesced.get(),
+                rejected.get(),
+                failed.get(),
+                inFlight.size()
+        );
+    }
 
-    @Async("molitWarmupExecutor")
-    public void warmupIfMissing(String lawdCd, String dealYmd) {
-        // TODO: 트래픽 증가 시 큐 기반 워밍(예: Redis/RabbitMQ)으로 전환 고려.
-        log.info("[Warmup] 비동기 동기화 트리거: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
-        syncService.fetchAndCacheIfMissing(lawdCd, dealYmd);
+    private void run(String key, String lawdCd, String dealYmd, CompletableFuture<Boolean> reservation) {
+        try {
+            reservation.complete(syncService.fetchAndCacheIfMissing(lawdCd, dealYmd));
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("[Warmup] 동기화 실패: lawdCd={}, dealYmd={}, error={}", lawdCd, dealYmd, e.getMessage());
+            reservation.complete(false);
+        } finally {
+            // 동기화 트랜잭션 커밋 이후 제거되므로 이후 요청은 이력 체크로 걸러짐
+            inFlight.remove(key, reservation);
+        }
     }
 }
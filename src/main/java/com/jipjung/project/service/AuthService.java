@@ -1,5 +1,8 @@
 package com.jipjung.project.service;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jipjung.project.config.jwt.JwtProvider;
 import com.jipjung.project.global.exception.DuplicateEmailException;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.controller.dto.request.SignupRequest;
@@ -18,6 +21,9 @@ public class AuthService {
 
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final JwtProvider jwtProvider;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
 
     @Transactional
     public SignupResponse signup(SignupRequest request) {
@@ -30,6 +36,29 @@ public class AuthService {
         return new SignupResponse(user.getEmail(), user.getNickname());
     }
 
+    /**
+     * 로그아웃
+     * 토큰을 폐기 목록에 올리고 사용자 principal 캐시를 무효화합니다.
+     * 토큰이 없거나 유효하지 않으면 아무 작업도 하지 않습니다.
+     *
+     * @param authorizationHeader Authorization 헤더 값
+     */
+    public void logout(String authorizationHeader) {
+        String token = jwtProvider.extractToken(authorizationHeader);
+        if (token == null) {
+            return;
+        }
+        try {
+            DecodedJWT decodedJWT = jwtProvider.verifyToken(token);
+            if (decodedJWT.getExpiresAtAsInstant() != null) {
+                tokenRevocationList.revoke(decodedJWT.getId(), decodedJWT.getExpiresAtAsInstant());
+            }
+            principalCache.invalidate(jwtProvider.getEmail(decodedJWT));
+        } catch (JWTVerificationException e) {
+            // 만료/위조 토큰은 이미 인증에 사용할 수 없으므로 무시
+        }
+    }
+
     private void validateSameEmail(SignupRequest request) {
         if (userMapper.existsByEmail(request.email())) {
             throw new DuplicateEmailException(ErrorCode.DUPLICATE_EMAIL.getMessage());
@@ -19,6 +19,7 @@ import com.jipjung.project.repository.AiConversationMapper;
 import com.jipjung.project.repository.ApartmentMapper;
 import com.jipjung.project.repository.CollectionMapper;
 import com.jipjung.project.repository.DailyActivityMapper;
+import com.jipjung.project.repository.DreamHomeExpSnapshotMapper;
 import com.jipjung.project.repository.DreamHomeMapper;
 import com.jipjung.project.repository.StreakMilestoneRewardMapper;
 import com.jipjung.project.repository.UserMapper;
@@ -26,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -48,6 +50,9 @@ import java.util.Objects;
  * - 저축 여정 상세 조회 (Phase별 이벤트)
  * - 대표 컬렉션 설정
  * - 목표 달성 시 자동 등록
+ * <p>
+ * 목표 XP 진행 현황은 dream_home_exp_snapshot의 누적 XP로 계산하며,
+ * 이벤트 전체 재생은 여정 상세 조회와 스냅샷 최초 생성 시에만 수행합니다.
  */
 @Slf4j
 @Service
@@ -61,6 +66,7 @@ public class CollectionService {
     private final AiConversationMapper aiConversationMapper;
     private final DailyActivityMapper dailyActivityMapper;
     private final StreakMilestoneRewardMapper milestoneRewardMapper;
+    private final DreamHomeExpSnapshotMapper expSnapshotMapper;
 
     // Phase 관련 상수 (PRD 3.1.3 참조)
     private static final int HOUSE_PHASES = 6;  // 집 짓기 단계
@@ -101,16 +107,14 @@ public class CollectionService {
     public CollectionResponse getCollections(Long userId) {
         checkAndUpdateCompletionByExp(userId);
 
-        List<Map<String, Object>> rawCollections = collectionMapper.findByUserId(userId);
-        Map<String, Object> inProgressData = collectionMapper.findInProgressSummary(userId);
-        boolean hasActiveGoal = inProgressData != null || collectionMapper.hasActiveDreamHome(userId);
-
-        List<CollectionItem> collections = rawCollections.stream()
-                .map(CollectionItem::fromMap)
+        List<CollectionItem> collections = collectionMapper.findByUserId(userId).stream()
+                .map(CollectionItem::from)
                 .toList();
+        CollectionMapper.InProgressSummary inProgressSummary = collectionMapper.findInProgressSummary(userId);
+        boolean hasActiveGoal = inProgressSummary != null || collectionMapper.hasActiveDreamHome(userId);
 
         // 진행 중인 드림홈 정보 조회 (XP 기반 단계 계산)
-        CollectionResponse.InProgressInfo inProgress = buildInProgressInfo(userId, inProgressData);
+        CollectionResponse.InProgressInfo inProgress = buildInProgressInfo(userId, inProgressSummary);
 
         return new CollectionResponse(collections, collections.size(), hasActiveGoal, inProgress);
     }
@@ -133,25 +137,22 @@ public class CollectionService {
     public JourneyResponse getInProgressJourney(Long userId) {
         checkAndUpdateCompletionByExp(userId);
 
-        Map<String, Object> inProgressData = collectionMapper.findInProgressSummary(userId);
-        if (inProgressData == null) {
+        CollectionMapper.InProgressSummary inProgressSummary = collectionMapper.findInProgressSummary(userId);
+        if (inProgressSummary == null) {
             throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND,
                     "진행 중인 드림홈이 없습니다.");
         }
 
-        Long dreamHomeId = getLong(inProgressData, "dream_home_id");
-        if (dreamHomeId == null) {
-            throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND);
-        }
+        Long dreamHomeId = inProgressSummary.dreamHomeId();
         DreamHome dreamHome = dreamHomeMapper.findById(dreamHomeId);
 
-        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : getLong(inProgressData, "target_amount");
+        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : inProgressSummary.targetAmount();
         int targetExp = ExpPolicy.calculateTargetExp(targetAmount);
         int safeTargetExp = Math.max(1, targetExp);
 
-        String themeCode = Objects.requireNonNullElse(getString(inProgressData, "theme_code"), "CLASSIC");
-        String propertyName = getString(inProgressData, "property_name");
-        String location = getString(inProgressData, "location");
+        String themeCode = Objects.requireNonNullElse(inProgressSummary.themeCode(), "CLASSIC");
+        String propertyName = inProgressSummary.propertyName();
+        String location = inProgressSummary.location();
 
         LocalDateTime startAt = resolveJourneyStart(dreamHome);
         LocalDateTime endAt = LocalDateTime.now();
@@ -212,15 +213,9 @@ public class CollectionService {
                     "이 컬렉션은 여정 정보가 없습니다.");
         }
 
-        Map<String, Object> detailMap =
+        CollectionMapper.CollectionRow detail =
                 collectionMapper.findDetailByUserIdAndCollectionId(userId, collectionId);
-        if (detailMap == null) {
-            throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND,
-                    "드림홈 정보를 찾을 수 없습니다.");
-        }
-
-        JourneyCollectionDetail detail = JourneyCollectionDetail.fromMap(detailMap);
-        if (detail.targetAmount() == null) {
+        if (detail == null || detail.targetAmount() == null) {
             throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND,
                     "드림홈 정보를 찾을 수 없습니다.");
         }
@@ -228,7 +223,7 @@ public class CollectionService {
         LocalDate completedDate = collection.getCompletedAt() != null
                 ? collection.getCompletedAt().toLocalDate()
                 : LocalDate.now();
-        LocalDate startDate = detail.startDateOr(completedDate);
+        LocalDate startDate = detail.startDate() != null ? detail.startDate() : completedDate;
 
         CollectionInfo collectionInfo = new CollectionInfo(
                 collectionId,
@@ -326,11 +321,7 @@ public class CollectionService {
             return new GoalCompletionResult(wasCompleted, false, null);
         }
 
-        int safeTargetExp = Math.max(1, targetExp);
-        LocalDateTime startAt = resolveJourneyStart(dreamHome);
-        JourneyEventData eventData = loadJourneyEvents(userId, dreamHome.getDreamHomeId(), startAt, LocalDateTime.now());
-        JourneyProgressSnapshot snapshot = calculateProgressSnapshot(eventData.events(), safeTargetExp);
-        int totalExp = snapshot.totalExp();
+        int totalExp = loadOrCreateTotalExp(userId, dreamHome);
 
         boolean isCompleted = wasCompleted || totalExp >= targetExp;
         boolean justCompleted = !wasCompleted && totalExp >= targetExp;
@@ -358,13 +349,8 @@ public class CollectionService {
             return GoalProgress.empty();
         }
 
-        int safeTargetExp = Math.max(1, targetExp);
-        LocalDateTime startAt = resolveJourneyStart(dreamHome);
-        JourneyEventData eventData = loadJourneyEvents(userId, dreamHome.getDreamHomeId(), startAt, LocalDateTime.now());
-        JourneyProgressSnapshot snapshot = calculateProgressSnapshot(eventData.events(), safeTargetExp);
-
-        int totalExp = snapshot.totalExp();
-        int currentPhase = snapshot.currentPhase();
+        int totalExp = loadTotalExp(userId, dreamHome);
+        int currentPhase = calculatePhase(totalExp, targetExp);
         double percent = Math.min(100.0, Math.max(0.0, (totalExp * 100.0) / targetExp));
         double roundedPercent = Math.round(percent * 10.0) / 10.0;
 
@@ -383,6 +369,63 @@ public class CollectionService {
         return getGoalProgress(userId, dreamHome);
     }
 
+    // =========================================================================
+    // 목표 XP 스냅샷 (XP 이벤트 기록 시 호출)
+    // =========================================================================
+
+    /**
+     * XP 이벤트 반영 (활성 드림홈 기준)
+     * <p>
+     * 이벤트 저장과 같은 트랜잭션에서 호출해야 합니다. (커밋 이후라면 {@link #applyCommittedExp} 사용)
+     */
+    @Transactional
+    public void recordGoalExp(Long userId, int expChange) {
+        if (expChange == 0) {
+            return;
+        }
+        recordGoalExp(userId, dreamHomeMapper.findActiveByUserId(userId), expChange);
+    }
+
+    /**
+     * 커밋된 XP 이벤트 반영 (목표 XP 스냅샷 증분 + XP 기준 목표 완료 확인)
+     * <p>
+     * 사용자 row lock을 잡고 이벤트를 저장한 트랜잭션의 커밋 이후에 호출되어
+     * 드림홈/스냅샷/컬렉션 처리가 잠금 구간을 늘리지 않도록 합니다.
+     * 커밋 이후에는 기존 트랜잭션에 참여할 수 없으므로 새 트랜잭션에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public GoalCompletionResult applyCommittedExp(Long userId, int expChange) {
+        DreamHome dreamHome = dreamHomeMapper.findActiveByUserId(userId);
+        if (dreamHome == null) {
+            return new GoalCompletionResult(false, false, null);
+        }
+        recordGoalExp(userId, dreamHome, expChange);
+        return checkAndUpdateCompletionByExp(userId, dreamHome, nullToZero(dreamHome.getCurrentSavedAmount()));
+    }
+
+    /**
+     * XP 이벤트 반영 (드림홈 지정)
+     * <p>
+     * 스냅샷이 없는 드림홈(도입 이전 생성분 등)은 여정을 한 번 재생해 생성합니다.
+     * 재생 결과에는 같은 트랜잭션에서 방금 저장된 이벤트가 이미 포함되어 있으므로 증분을 더하지 않고,
+     * 동시에 다른 트랜잭션이 먼저 생성한 경우에만 증분을 반영합니다.
+     */
+    @Transactional
+    public void recordGoalExp(Long userId, DreamHome dreamHome, int expChange) {
+        if (expChange == 0 || dreamHome == null || dreamHome.getDreamHomeId() == null) {
+            return;
+        }
+        Long dreamHomeId = dreamHome.getDreamHomeId();
+        if (expSnapshotMapper.addExp(dreamHomeId, expChange) > 0) {
+            return;
+        }
+        int totalExp = replayTotalExp(userId, dreamHome);
+        if (expSnapshotMapper.insertIfAbsent(dreamHomeId, totalExp) == 0) {
+            expSnapshotMapper.addExp(dreamHomeId, expChange);
+        }
+        log.debug("Goal exp snapshot created. dreamHomeId: {}, totalExp: {}", dreamHomeId, totalExp);
+    }
+
     // =========================================================================
     // 목표 달성 시 자동 등록 (DreamHomeService에서 호출)
     // =========================================================================
@@ -480,26 +523,47 @@ public class CollectionService {
         return collection;
     }
 
-    private CollectionResponse.InProgressInfo buildInProgressInfo(Long userId, Map<String, Object> inProgressData) {
-        if (inProgressData == null) {
+    private CollectionResponse.InProgressInfo buildInProgressInfo(
+            Long userId,
+            CollectionMapper.InProgressSummary inProgressSummary
+    ) {
+        if (inProgressSummary == null) {
             return null;
         }
 
-        Long dreamHomeId = getLong(inProgressData, "dream_home_id");
-        if (dreamHomeId == null) {
-            return CollectionResponse.InProgressInfo.fromMap(inProgressData);
-        }
-
-        DreamHome dreamHome = dreamHomeMapper.findById(dreamHomeId);
-        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : getLong(inProgressData, "target_amount");
+        DreamHome dreamHome = dreamHomeMapper.findById(inProgressSummary.dreamHomeId());
+        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : inProgressSummary.targetAmount();
         int targetExp = ExpPolicy.calculateTargetExp(targetAmount);
-        int safeTargetExp = Math.max(1, targetExp);
 
-        LocalDateTime startAt = resolveJourneyStart(dreamHome);
-        JourneyEventData eventData = loadJourneyEvents(userId, dreamHomeId, startAt, LocalDateTime.now());
-        JourneyProgressSnapshot snapshot = calculateProgressSnapshot(eventData.events(), safeTargetExp);
+        int totalExp = dreamHome != null ? loadTotalExp(userId, dreamHome) : 0;
+        return CollectionResponse.InProgressInfo.of(inProgressSummary, calculatePhase(totalExp, targetExp));
+    }
 
-        return CollectionResponse.InProgressInfo.fromMap(inProgressData, snapshot.currentPhase());
+    /**
+     * 누적 XP 조회 (스냅샷이 없으면 재생 결과만 반환, 읽기 전용 트랜잭션에서 사용)
+     */
+    private int loadTotalExp(Long userId, DreamHome dreamHome) {
+        Integer totalExp = expSnapshotMapper.findTotalExp(dreamHome.getDreamHomeId());
+        return totalExp != null ? totalExp : replayTotalExp(userId, dreamHome);
+    }
+
+    /**
+     * 누적 XP 조회 (스냅샷이 없으면 재생 결과로 생성)
+     */
+    private int loadOrCreateTotalExp(Long userId, DreamHome dreamHome) {
+        Integer totalExp = expSnapshotMapper.findTotalExp(dreamHome.getDreamHomeId());
+        if (totalExp != null) {
+            return totalExp;
+        }
+        int replayed = replayTotalExp(userId, dreamHome);
+        expSnapshotMapper.insertIfAbsent(dreamHome.getDreamHomeId(), replayed);
+        return replayed;
+    }
+
+    private int replayTotalExp(Long userId, DreamHome dreamHome) {
+        LocalDateTime startAt = resolveJourneyStart(dreamHome);
+        JourneyEventData eventData = loadJourneyEvents(userId, dreamHome.getDreamHomeId(), startAt, LocalDateTime.now());
+        return accumulateExp(eventData.events());
     }
 
     /**
@@ -542,101 +606,47 @@ public class CollectionService {
         }
 
         List<JourneyXpEvent> events = new ArrayList<>();
-        int totalDeposits = 0;
-
-        List<Map<String, Object>> savingsEvents = collectionMapper.findJourneyEvents(dreamHomeId);
-        for (Map<String, Object> raw : savingsEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "date");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-
-            String saveType = getString(raw, "event_type");
-            Long amount = getLong(raw, "amount");
-            String memo = getString(raw, "memo");
-
-            boolean isDeposit = "DEPOSIT".equalsIgnoreCase(saveType);
-            int expChange = isDeposit ? ExpPolicy.calculateSavingsExp(amount) : 0;
-            if (isDeposit) {
-                totalDeposits++;
-            }
-
-            String eventType = isDeposit ? EVENT_SAVINGS_DEPOSIT : EVENT_SAVINGS_WITHDRAW;
-            events.add(new JourneyXpEvent(
-                    getLong(raw, "event_id"),
-                    eventType,
-                    date,
-                    expChange,
-                    memo,
-                    amount
-            ));
-        }
-
-        List<Map<String, Object>> aiEvents = aiConversationMapper.findJudgedEventsByUserIdAndDateRange(
-                userId, safeStart, safeEnd
-        );
-        for (Map<String, Object> raw : aiEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "updated_at");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-            int expChange = nullToZero(getInt(raw, "exp_change"));
-            String result = getString(raw, "judgment_result");
-            Integer score = getInt(raw, "judgment_score");
-            String memo = buildAiMemo(result, score);
-
+        collectionMapper.findJourneyEvents(dreamHomeId, safeStart, safeEnd,
+                context -> events.add(toSavingsXpEvent(context.getResultObject())));
+        int totalDeposits = (int) events.stream()
+                .filter(event -> EVENT_SAVINGS_DEPOSIT.equals(event.eventType()))
+                .count();
+
+        for (AiConversationMapper.JudgedEvent row
+                : aiConversationMapper.findJudgedEventsByUserIdAndDateRange(userId, safeStart, safeEnd)) {
             events.add(new JourneyXpEvent(
-                    getLong(raw, "conversation_id"),
+                    row.conversationId(),
                     EVENT_AI_JUDGMENT,
-                    date,
-                    expChange,
-                    memo,
+                    row.updatedAt(),
+                    nullToZero(row.expChange()),
+                    buildAiMemo(row.judgmentResult(), row.judgmentScore()),
                     null
             ));
         }
 
-        List<Map<String, Object>> activityEvents = dailyActivityMapper.findExpEventsByUserIdAndDateRange(
-                userId, safeStart, safeEnd
-        );
-        for (Map<String, Object> raw : activityEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "created_at");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-            String activityType = getString(raw, "activity_type");
-            int expEarned = nullToZero(getInt(raw, "exp_earned"));
-            String memo = buildActivityMemo(activityType);
-            String eventType = EVENT_STREAK_PREFIX + normalizeEventType(activityType);
-
+        for (DailyActivityMapper.ExpEvent row
+                : dailyActivityMapper.findExpEventsByUserIdAndDateRange(userId, safeStart, safeEnd)) {
             events.add(new JourneyXpEvent(
-                    getLong(raw, "activity_id"),
-                    eventType,
-                    date,
-                    expEarned,
-                    memo,
+                    row.activityId(),
+                    EVENT_STREAK_PREFIX + normalizeEventType(row.activityType()),
+                    row.createdAt(),
+                    nullToZero(row.expEarned()),
+                    buildActivityMemo(row.activityType()),
                     null
             ));
         }
 
-        List<Map<String, Object>> milestoneEvents = milestoneRewardMapper.findRewardsByUserIdAndDateRange(
-                userId, safeStart, safeEnd
-        );
-        for (Map<String, Object> raw : milestoneEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "claimed_at");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-            int expReward = nullToZero(getInt(raw, "exp_reward"));
-            int milestoneDays = nullToZero(getInt(raw, "milestone_days"));
+        for (StreakMilestoneRewardMapper.RewardEvent row
+                : milestoneRewardMapper.findRewardsByUserIdAndDateRange(userId, safeStart, safeEnd)) {
+            int milestoneDays = nullToZero(row.milestoneDays());
             String memo = milestoneDays > 0
                     ? "마일스톤 " + milestoneDays + "일 보상"
                     : "마일스톤 보상";
-
             events.add(new JourneyXpEvent(
-                    getLong(raw, "reward_id"),
+                    row.rewardId(),
                     EVENT_STREAK_MILESTONE,
-                    date,
-                    expReward,
+                    row.claimedAt(),
+                    nullToZero(row.expReward()),
                     memo,
                     null
             ));
@@ -649,16 +659,27 @@ public class CollectionService {
         return new JourneyEventData(events, totalDeposits);
     }
 
-    private JourneyProgressSnapshot calculateProgressSnapshot(List<JourneyXpEvent> events, int targetExp) {
-        int cumulativeExp = 0;
-        int currentPhase = 1;
+    private static JourneyXpEvent toSavingsXpEvent(CollectionMapper.SavingsJourneyEvent row) {
+        boolean isDeposit = "DEPOSIT".equalsIgnoreCase(row.saveType());
+        return new JourneyXpEvent(
+                row.savingsId(),
+                isDeposit ? EVENT_SAVINGS_DEPOSIT : EVENT_SAVINGS_WITHDRAW,
+                row.createdAt(),
+                isDeposit ? ExpPolicy.calculateSavingsExp(row.amount()) : 0,
+                row.memo(),
+                row.amount()
+        );
+    }
 
+    /**
+     * 이벤트 순서대로 누적 XP 계산 (0 미만으로 내려가지 않음)
+     */
+    private static int accumulateExp(List<JourneyXpEvent> events) {
+        int cumulativeExp = 0;
         for (JourneyXpEvent event : events) {
             cumulativeExp = Math.max(0, cumulativeExp + nullToZero(event.expChange()));
-            currentPhase = calculatePhase(cumulativeExp, targetExp);
         }
-
-        return new JourneyProgressSnapshot(cumulativeExp, currentPhase);
+        return cumulativeExp;
     }
 
     private LocalDateTime resolveJourneyStart(DreamHome dreamHome) {
@@ -741,16 +762,6 @@ public class CollectionService {
         );
     }
 
-    private static boolean isWithinRange(LocalDateTime date, LocalDateTime startAt, LocalDateTime endAt) {
-        if (date == null) {
-            return false;
-        }
-        if (startAt != null && date.isBefore(startAt)) {
-            return false;
-        }
-        return endAt == null || !date.isAfter(endAt);
-    }
-
     /**
      * 이벤트를 Phase별로 그룹핑 (XP 기준)
      * <p>
@@ -957,43 +968,6 @@ public class CollectionService {
         return val != null ? val : 0;
     }
 
-    // Map 헬퍼
-    private static Long getLong(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val == null) return null;
-        if (val instanceof Long l) return l;
-        if (val instanceof Number n) return n.longValue();
-        return null;
-    }
-
-    private static Integer getInt(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val == null) return null;
-        if (val instanceof Integer i) return i;
-        if (val instanceof Number n) return n.intValue();
-        return null;
-    }
-
-    private static String getString(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        return val != null ? val.toString() : null;
-    }
-
-    private static LocalDate getLocalDate(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val instanceof LocalDate ld) return ld;
-        if (val instanceof java.sql.Date d) return d.toLocalDate();
-        if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime().toLocalDate();
-        return null;
-    }
-
-    private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val instanceof LocalDateTime ldt) return ldt;
-        if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
-        return null;
-    }
-
     private record JourneyXpEvent(
             Long eventId,
             String eventType,
@@ -1007,8 +981,6 @@ public class CollectionService {
 
     private record JourneyPhaseResult(List<PhaseInfo> phases, int totalExp, int currentPhase) {}
 
-    private record JourneyProgressSnapshot(int totalExp, int currentPhase) {}
-
     public record GoalCompletionResult(
             boolean isCompleted,
             boolean justCompleted,
@@ -1025,28 +997,4 @@ public class CollectionService {
             return new GoalProgress(0, 0, 1, 0.0);
         }
     }
-
-    private record JourneyCollectionDetail(
-            Long targetAmount,
-            LocalDate startDate,
-            String themeName,
-            String themeCode,
-            String propertyName,
-            String location
-    ) {
-        static JourneyCollectionDetail fromMap(Map<String, Object> map) {
-            return new JourneyCollectionDetail(
-                    getLong(map, "target_amount"),
-                    getLocalDate(map, "start_date"),
-                    getString(map, "theme_name"),
-                    getString(map, "theme_code"),
-                    getString(map, "property_name"),
-                    getString(map, "location")
-            );
-        }
-
-        LocalDate startDateOr(LocalDate fallback) {
-            return startDate != null ? startDate : fallback;
-        }
-    }
 }
@@ -0,0 +1,151 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.ActivityType;
+import com.jipjung.project.repository.DailyActivityMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 KST 일일 참여 활동 유형 캐시
+ * <p>
+ * 활동 기록마다 실행하던 오늘 참여 여부 조회를 메모리에서 처리하여, 이미 참여한 활동은 사용자 row lock 없이 반환합니다.
+ * 사용자 단위로 ConcurrentHashMap 버킷 잠금(compute)만 사용하므로 사용자끼리는 경합하지 않습니다.
+ * <ul>
+ *   <li>날짜는 주입된 Clock(KST) 기준이며, 날짜가 바뀐 항목은 조회 시 무시하고 자정 이후 정리</li>
+ *   <li>처음 조회하는 사용자/날짜는 daily_activity에서 적재 (사용자당 하루 1회)</li>
+ *   <li>참여 기록은 지워지지 않으므로 "참여함"은 항상 맞고, 다른 인스턴스가 기록한 활동은 "아니오"로 남을 수 있음
+ *       (이 경우 최종 판정은 UNIQUE 제약(uk_user_activity_date_type)의 INSERT IGNORE 결과)</li>
+ *   <li>일일 EXP 합계는 캐시하지 않고 잠긴 사용자 행의 daily_exp를 기준으로 판정 (StreakService)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class DailyActivityCounter {
+
+    private final DailyActivityMapper dailyActivityMapper;
+    private final Clock clock;
+    private final boolean enabled;
+
+    private final Map<Long, DayState> states = new ConcurrentHashMap<>();
+
+    public DailyActivityCounter(DailyActivityMapper dailyActivityMapper,
+                                Clock clock,
+                                @Value("${streak.daily-counter.enabled:true}") boolean enabled) {
+        this.dailyActivityMapper = dailyActivityMapper;
+        this.clock = clock;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 오늘 해당 활동으로 이미 참여했는지 확인 (잠금 없음)
+     * 카운터가 없으면 DB에서 적재합니다. false여도 다른 인스턴스에서 기록했을 수 있으므로
+     * 호출 측은 INSERT IGNORE 결과로 최종 판정해야 합니다.
+     */
+    public boolean hasParticipated(Long userId, LocalDate day, ActivityType activityType) {
+        if (!enabled) {
+            return DayState.of(day, dailyActivityMapper.findActivityExpByUserIdAndDate(userId, day))
+                    .contains(activityType);
+        }
+        DayState state = current(userId, day);
+        if (state == null) {
+            DayState loaded = DayState.of(day, dailyActivityMapper.findActivityExpByUserIdAndDate(userId, day));
+            state = states.compute(userId, (key, existing) ->
+                    existing != null && existing.day().equals(day) ? existing : loaded);
+        }
+        return state.contains(activityType);
+    }
+
+    /**
+     * 활동 기록 반영 (트랜잭션 내 호출 시 커밋 후 적용, 롤백되면 반영하지 않음)
+     */
+    public void record(Long userId, LocalDate day, ActivityType activityType) {
+        if (!enabled) {
+            return;
+        }
+        Runnable apply = () -> markParticipated(userId, day, activityType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 이미 커밋된 활동 반영 (다른 인스턴스가 먼저 기록해 INSERT IGNORE가 무시된 경우)
+     */
+    public void markParticipated(Long userId, LocalDate day, ActivityType activityType) {
+        if (!enabled) {
+            return;
+        }
+        states.computeIfPresent(userId, (key, state) ->
+                state.day().equals(day) ? state.withType(activityType) : null);
+    }
+
+    /**
+     * 지난 날짜 항목 정리 (KST 자정 이후)
+     */
+    @Scheduled(cron = "${streak.daily-counter.purge-cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        LocalDate today = LocalDate.now(clock);
+        int before = states.size();
+        states.values().removeIf(state -> state.day().isBefore(today));
+        log.debug("Daily activity counters purged: {} -> {}", before, states.size());
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    private DayState current(Long userId, LocalDate day) {
+        DayState state = states.get(userId);
+        return state != null && state.day().equals(day) ? state : null;
+    }
+
+    /**
+     * 사용자 하루 상태 (불변)
+     *
+     * @param day      KST 날짜
+     * @param typeMask 참여한 활동 유형 비트 (ordinal 기준)
+     */
+    private record DayState(LocalDate day, int typeMask) {
+
+        private static DayState of(LocalDate day, List<DailyActivityMapper.ActivityExp> activities) {
+            int typeMask = 0;
+            for (DailyActivityMapper.ActivityExp activity : activities) {
+                try {
+                    typeMask |= bit(ActivityType.valueOf(activity.activityType()));
+                } catch (IllegalArgumentException e) {
+                    // 더 이상 사용하지 않는 활동 유형은 무시
+                }
+            }
+            return new DayState(day, typeMask);
+        }
+
+        private boolean contains(ActivityType activityType) {
+            return (typeMask & bit(activityType)) != 0;
+        }
+
+        private DayState withType(ActivityType activityType) {
+            return new DayState(day, typeMask | bit(activityType));
+        }
+
+        private static int bit(ActivityType activityType) {
+            return 1 << activityType.ordinal();
+        }
+    }
+}
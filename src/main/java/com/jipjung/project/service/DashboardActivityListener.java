@@ -0,0 +1,121 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.ActivityType;
+import com.jipjung.project.repository.UserMapper;
+import com.jipjung.project.service.event.DashboardViewedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 대시보드 조회 부수 효과 처리기
+ * <p>
+ * {@link DashboardViewedEvent}를 받아 대시보드 스트릭 참여, XP 기준 목표 완료 보정, 오래된 DSR 캐시 무효화를
+ * activityEventExecutor에서 처리합니다. 대시보드 조회는 사용자 row lock/INSERT 없이 읽기만 수행합니다.
+ * <p>
+ * 같은 사용자의 같은 날 이벤트는 한 번만 처리하며(인메모리 중복 제거, DSR 캐시 무효화도 하루 1회),
+ * 참여 자체도 daily_activity UNIQUE 제약으로 멱등하므로 재처리되어도 결과는 같습니다.
+ * 처리에 실패하면 중복 제거 표시를 해제하여 다음 조회 때 다시 시도합니다.
+ */
+@Component
+@Slf4j
+public class DashboardActivityListener {
+
+    private final StreakService streakService;
+    private final CollectionService collectionService;
+    private final UserMapper userMapper;
+    private final Executor activityEventExecutor;
+
+    private volatile ProcessedUsers processedUsers = new ProcessedUsers(LocalDate.MIN);
+
+    public DashboardActivityListener(StreakService streakService,
+                                     CollectionService collectionService,
+                                     UserMapper userMapper,
+                                     @Qualifier("activityEventExecutor") Executor activityEventExecutor) {
+        this.streakService = streakService;
+        this.collectionService = collectionService;
+        this.userMapper = userMapper;
+        this.activityEventExecutor = activityEventExecutor;
+    }
+
+    @EventListener
+    public void onDashboardViewed(DashboardViewedEvent event) {
+        ProcessedUsers processed = processedUsersFor(event.viewedDate());
+        if (event.staleDsrCache() && processed.dsrInvalidatedUsers().add(event.userId())) {
+            if (!submit(() -> invalidateDsrCache(event.userId(), processed))) {
+                processed.dsrInvalidatedUsers().remove(event.userId());
+            }
+        }
+        if (!processed.users().add(event.userId())) {
+            return;
+        }
+        if (!submit(() -> process(event, processed))) {
+            processed.users().remove(event.userId());
+        }
+    }
+
+    private boolean submit(Runnable task) {
+        try {
+            activityEventExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Dashboard activity event rejected (queue full).");
+            return false;
+        }
+    }
+
+    private void invalidateDsrCache(Long userId, ProcessedUsers processed) {
+        try {
+            int updated = userMapper.invalidateDsrCache(userId);
+            log.info("Invalidated stale DSR cache for user {} (rows={})", userId, updated);
+        } catch (DataAccessException e) {
+            processed.dsrInvalidatedUsers().remove(userId);
+            log.warn("Failed to invalidate DSR cache for user {}.", userId, e);
+        }
+    }
+
+    private void process(DashboardViewedEvent event, ProcessedUsers processed) {
+        Long userId = event.userId();
+        try {
+            StreakService.StreakResult result = streakService.participate(userId, ActivityType.DASHBOARD);
+            // EXP를 획득한 경우 participate 내부에서 이미 완료 보정을 수행
+            if (result.expEarned() == 0) {
+                collectionService.checkAndUpdateCompletionByExp(userId);
+            }
+        } catch (Exception e) {
+            processed.users().remove(userId);
+            log.warn("Dashboard activity processing failed for userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * 날짜가 바뀌면 중복 제거 집합을 새로 시작
+     */
+    private ProcessedUsers processedUsersFor(LocalDate date) {
+        ProcessedUsers current = processedUsers;
+        if (current.date().equals(date)) {
+            return current;
+        }
+        synchronized (this) {
+            if (date.isAfter(processedUsers.date())) {
+                processedUsers = new ProcessedUsers(date);
+            }
+            // 자정 직후 도착한 전날 이벤트는 별도 집합으로 처리 (참여 자체가 멱등)
+            return processedUsers.date().equals(date) ? processedUsers : new ProcessedUsers(date);
+        }
+    }
+
+    private record ProcessedUsers(LocalDate date, Set<Long> users, Set<Long> dsrInvalidatedUsers) {
+        private ProcessedUsers(LocalDate date) {
+            this(date, ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+        }
+    }
+}
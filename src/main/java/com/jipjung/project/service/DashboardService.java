@@ -14,11 +14,17 @@ import com.jipjung.project.dsr.DsrResult;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.global.exception.ResourceNotFoundException;
 import com.jipjung.project.repository.*;
+import com.jipjung.project.service.event.DashboardViewedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.DayOfWeek;
@@ -30,11 +36,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * 대시보드 서비스
  * - 대시보드 통합 데이터 조회 로직
  * - Phase 2: PRO 결과 우선 사용, GapAnalysis 통합
+ * - 서로 독립적인 조회는 dashboardExecutor에서 병렬 실행 후 마지막에 합침
+ * - 조회 경로는 읽기 전용이며, 스트릭 참여/XP 완료 보정은 DashboardViewedEvent로 비동기 처리
  */
 @Slf4j
 @Service
@@ -61,10 +74,13 @@ public class DashboardService {
     private final DsrHistoryMapper dsrHistoryMapper;
     private final UserPreferredAreaMapper userPreferredAreaMapper;
     private final ApartmentDealMapper apartmentDealMapper;
+    private final RegionPriceStatsService regionPriceStatsService;
     private final DsrService dsrService;
-    private final StreakService streakService;
     private final CollectionService collectionService;
     private final ObjectMapper objectMapper;
+    private final Executor dashboardExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
     @Autowired
@@ -78,10 +94,13 @@ public class DashboardService {
             DsrHistoryMapper dsrHistoryMapper,
             UserPreferredAreaMapper userPreferredAreaMapper,
             ApartmentDealMapper apartmentDealMapper,
+            RegionPriceStatsService regionPriceStatsService,
             DsrService dsrService,
-            StreakService streakService,
             CollectionService collectionService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
     ) {
         this(
                 userMapper,
@@ -93,10 +112,13 @@ public class DashboardService {
                 dsrHistoryMapper,
                 userPreferredAreaMapper,
                 apartmentDealMapper,
+                regionPriceStatsService,
                 dsrService,
-                streakService,
                 collectionService,
                 objectMapper,
+                dashboardExecutor,
+                transactionManager,
+                eventPublisher,
                 Clock.system(ZONE_KST)
         );
     }
@@ -111,10 +133,13 @@ public class DashboardService {
             DsrHistoryMapper dsrHistoryMapper,
             UserPreferredAreaMapper userPreferredAreaMapper,
             ApartmentDealMapper apartmentDealMapper,
+            RegionPriceStatsService regionPriceStatsService,
             DsrService dsrService,
-            StreakService streakService,
             CollectionService collectionService,
             ObjectMapper objectMapper,
+            Executor dashboardExecutor,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
             Clock clock
     ) {
         this.userMapper = userMapper;
@@ -126,82 +151,85 @@ public class DashboardService {
         this.dsrHistoryMapper = dsrHistoryMapper;
         this.userPreferredAreaMapper = userPreferredAreaMapper;
         this.apartmentDealMapper = apartmentDealMapper;
+        this.regionPriceStatsService = regionPriceStatsService;
         this.dsrService = dsrService;
-        this.streakService = streakService;
         this.collectionService = collectionService;
         this.objectMapper = objectMapper;
+        this.dashboardExecutor = dashboardExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
         this.clock = clock;
     }
 
     /**
      * 대시보드 통합 데이터 조회
      * <p>
-     * 대시보드 접속 시 활동 기반 스트릭에 참여하므로 쓰기 트랜잭션이 필요합니다.
+     * 사용자 조회와 XP 완료 보정 이후, 서로 독립적인 조회를 dashboardExecutor에서 병렬로 실행하고
+     * 드림홈/선호 지역에 의존하는 조회는 선행 결과가 준비되는 즉시 이어서 실행합니다.
+     * 응답 시간은 조회 합계가 아니라 가장 느린 조회 경로를 따릅니다.
+     * <p>
+     * 모든 조회는 각자의 읽기 전용 트랜잭션에서 실행되며(읽기 전용 복제본 라우팅 가능),
+     * 병렬 조회를 기다리는 동안 요청 스레드는 커넥션을 붙잡지 않습니다.
+     * 스트릭 참여와 XP 완료 보정은 조회 후 {@link DashboardViewedEvent}로 발행되어 비동기로 처리되므로,
+     * 응답에는 이번 조회 이전까지 반영된 상태가 표시됩니다.
      *
      * @param userId 사용자 ID
      * @return 대시보드 응답 DTO
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
-    @Transactional(readOnly = false)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardResponse getDashboard(Long userId) {
         // 1. User 조회 (is_deleted=false, 없으면 예외)
-        User user = findUserOrThrow(userId);
-
-        // 2. 선호 지역 조회 (구/군)
-        List<String> preferredAreas = loadPreferredAreas(userId);
-
-        // 3. GrowthLevel 조회 (없으면 기본 레벨로 재조회)
-        ResolvedLevel resolvedLevel = resolveGrowthLevel(resolveUserLevel(user));
-        int userLevel = resolvedLevel.level();
-        GrowthLevel level = resolvedLevel.growthLevel();
-
-        // 4. totalSteps 조회
-        int totalSteps = resolveTotalSteps();
-
-        // 5. DreamHome 조회 (ACTIVE 우선, 없으면 최근 COMPLETED; 없으면 null)
-        DreamHome dreamHome = dreamHomeMapper.findLatestForDashboardByUserId(userId);
-
-        // 5-1. XP 기준 완료 상태 보정 (대시보드 진입 시에도 동기화)
-        CollectionService.GoalCompletionResult completionResult =
-                collectionService.checkAndUpdateCompletionByExp(userId);
-        if (completionResult.justCompleted()) {
-            dreamHome = dreamHomeMapper.findLatestForDashboardByUserId(userId);
-        }
+        User user = readOnlyTransaction.execute(status -> findUserOrThrow(userId));
 
-        // 6. HouseTheme 조회 (fallback + 로깅)
-        HouseTheme houseTheme = resolveHouseTheme(user.getSelectedThemeId());
-
-        // 7. Streak 조회
         LocalDate today = LocalDate.now(clock);
         LocalDate weekStart = today.with(DayOfWeek.MONDAY);
         LocalDate weekEnd = weekStart.plusDays(6);
-        List<StreakHistory> weeklyStreaks = streakHistoryMapper.findByUserIdAndWeek(userId, weekStart, weekEnd);
-        boolean todayParticipated = streakHistoryMapper.existsByUserIdAndDate(userId, today);
-
-        // 8. Assets 데이터 구축 (윈도우 기반)
-        AssetsData assetsData = buildAssetsData(dreamHome, today);
+        DashboardLoaders loaders = new DashboardLoaders(dashboardExecutor, readOnlyTransaction);
+
+        // 2. 독립 조회 fan-out
+        CompletableFuture<List<String>> preferredAreasFuture = loaders.load(() -> loadPreferredAreas(userId));
+        CompletableFuture<ResolvedLevel> levelFuture = loaders.load(() -> resolveGrowthLevel(resolveUserLevel(user)));
+        CompletableFuture<Integer> totalStepsFuture = loaders.load(this::resolveTotalSteps);
+        CompletableFuture<DreamHome> dreamHomeFuture =
+                loaders.load(() -> dreamHomeMapper.findLatestForDashboardByUserId(userId));
+        CompletableFuture<HouseTheme> houseThemeFuture = loaders.load(() -> resolveHouseTheme(user.getSelectedThemeId()));
+        CompletableFuture<List<StreakHistory>> weeklyStreaksFuture =
+                loaders.load(() -> streakHistoryMapper.findByUserIdAndWeek(userId, weekStart, weekEnd));
+        CompletableFuture<Boolean> todayParticipatedFuture =
+                loaders.load(() -> streakHistoryMapper.existsByUserIdAndDate(userId, today));
+        CompletableFuture<DsrCalculationContext> dsrContextFuture = loaders.load(() -> resolveDsrContext(userId, user));
+
+        // 3. 드림홈/선호 지역 의존 조회
+        CompletableFuture<AssetsData> assetsFuture =
+                dreamHomeFuture.thenCompose(dreamHome -> loadAssetsData(loaders, dreamHome, today));
+        CompletableFuture<Long> latestDealAmountFuture =
+                dreamHomeFuture.thenCompose(dreamHome -> loadLatestDealAmountNum(loaders, dreamHome));
+        CompletableFuture<Long> regionAvgPriceFuture = dreamHomeFuture.thenCombine(preferredAreasFuture,
+                (dreamHome, preferredAreas) -> dreamHome != null
+                        ? CompletableFuture.completedFuture(DEFAULT_REGION_AVG_PRICE)
+                        : loaders.load(() -> getRegionAveragePrice(userId, preferredAreas))
+        ).thenCompose(future -> future);
+        CompletableFuture<CollectionService.GoalProgress> goalProgressFuture =
+                dreamHomeFuture.thenCompose(dreamHome -> loaders.load(() -> collectionService.getGoalProgress(userId, dreamHome)));
+
+        // 4. 결과 합류
+        List<String> preferredAreas = join(preferredAreasFuture);
+        ResolvedLevel resolvedLevel = join(levelFuture);
+        DreamHome dreamHome = join(dreamHomeFuture);
+        DsrCalculationContext dsrContext = join(dsrContextFuture);
+        Long latestDealAmountNum = join(latestDealAmountFuture);
 
-        // 9. DSR 계산 - PRO 결과 우선 (Phase 2)
-        DsrCalculationContext dsrContext = resolveDsrContext(userId, user);
         DsrSection dsrSection = DsrSection.from(user, dsrContext.dsrResult(), dsrContext.recognizedAnnualIncome());
-
-        // 10. Gap Analysis 계산 (Phase 2)
-        GapAnalysisSection gapAnalysis = buildGapAnalysis(userId, user, dreamHome, dsrContext.maxLoanAmount(), preferredAreas);
-
-        // 11. 대시보드 접속 스트릭 참여 (1일 1회)
-        try {
-            streakService.participate(userId, ActivityType.DASHBOARD);
-        } catch (Exception e) {
-            log.warn("Dashboard streak participation failed for userId: {}", userId, e);
-            // 실패해도 대시보드 조회는 정상 진행
-        }
-
-        // 12. 응답 생성
-        CollectionService.GoalProgress goalProgress = collectionService.getGoalProgress(userId, dreamHome);
-        return DashboardResponse.from(
-                user, level, dreamHome, weeklyStreaks,
-                todayParticipated, assetsData, houseTheme, totalSteps, dsrSection, gapAnalysis, preferredAreas,
-                resolveLatestDealPrice(dreamHome),
+        GapAnalysisSection gapAnalysis = buildGapAnalysis(
+                user, dreamHome, dsrContext.maxLoanAmount(), latestDealAmountNum, join(regionAvgPriceFuture));
+        CollectionService.GoalProgress goalProgress = join(goalProgressFuture);
+        DashboardResponse response = DashboardResponse.from(
+                user, resolvedLevel.growthLevel(), dreamHome, join(weeklyStreaksFuture),
+                join(todayParticipatedFuture), join(assetsFuture), join(houseThemeFuture), join(totalStepsFuture),
+                dsrSection, gapAnalysis, preferredAreas,
+                toWon(latestDealAmountNum),
                 new DashboardResponse.GoalExpProgress(
                         goalProgress.targetExp(),
                         goalProgress.totalExp(),
@@ -209,6 +237,11 @@ public class DashboardService {
                         goalProgress.currentPhase()
                 )
         );
+
+        // 5. 대시보드 접속 부수 효과 발행 (스트릭 참여, XP 완료 보정, DSR 캐시 무효화 - 비동기/멱등 처리)
+        eventPublisher.publishEvent(new DashboardViewedEvent(userId, today, dsrContext.staleDsrCache()));
+
+        return response;
     }
 
     // ==========================================================================
@@ -230,73 +263,72 @@ public class DashboardService {
                 DsrPolicy policy = DsrPolicy.bankDefault2025H2();
                 long recognizedAnnualIncome = Math.round(dsrInput.annualIncome() * policy.getYouthIncomeMultiplier(ageAtSimulation));
 
-                return new DsrCalculationContext(dsrResult, latestPro.getMaxLoanAmount(), recognizedAnnualIncome);
+                return new DsrCalculationContext(dsrResult, latestPro.getMaxLoanAmount(), recognizedAnnualIncome, false);
             } catch (JsonProcessingException e) {
                 log.warn("Failed to parse PRO DSR history. Falling back to LITE and invalidating stale cache. userId: {}", userId, e);
-                invalidateDsrCacheIfPresent(userId, user);
             }
         } else if (user.getCachedMaxLoanAmount() != null) {
             log.info("Cached PRO max loan exists without PRO history. Invalidating and recalculating with LITE. userId: {}", userId);
-            invalidateDsrCacheIfPresent(userId, user);
         }
 
         // LITE 계산 (PRO 이력 부재 혹은 파싱 실패 시)
+        // 남아 있는 PRO 캐시는 조회 경로에서 쓰지 않고 대시보드 이벤트로 비동기 무효화
         DsrService.LiteDsrSnapshot snapshot = dsrService.calculateLiteDsrSnapshot(user);
-        return new DsrCalculationContext(snapshot.result(), snapshot.result().maxLoanAmount(), snapshot.recognizedAnnualIncome());
+        return new DsrCalculationContext(snapshot.result(), snapshot.result().maxLoanAmount(), snapshot.recognizedAnnualIncome(),
+                user.getCachedMaxLoanAmount() != null);
     }
 
     /**
      * Gap Analysis 구축
+     *
+     * @param latestDealAmountNum 드림홈 아파트 최신 거래가 (만원 단위, 없으면 null)
+     * @param regionAvgPrice      목표 미설정 시 사용할 선호 지역 평균 시세
      */
-    private GapAnalysisSection buildGapAnalysis(Long userId, User user, DreamHome dreamHome, long maxLoanAmount, List<String> preferredAreas) {
+    private GapAnalysisSection buildGapAnalysis(User user, DreamHome dreamHome, long maxLoanAmount,
+                                                Long latestDealAmountNum, long regionAvgPrice) {
         if (dreamHome != null) {
             // 목표 설정됨
-            long gapTargetAmount = resolveGapTargetAmount(dreamHome);
+            long gapTargetAmount = resolveGapTargetAmount(dreamHome, latestDealAmountNum);
             return GapAnalysisSection.from(dreamHome, user, maxLoanAmount, gapTargetAmount);
         } else {
             // 목표 미설정 → 선호 지역 평균 시세로 임시 목표
-            long regionAvgPrice = getRegionAveragePrice(userId, preferredAreas);
             return GapAnalysisSection.forNoTarget(user, maxLoanAmount, regionAvgPrice);
         }
     }
 
-    private long resolveGapTargetAmount(DreamHome dreamHome) {
+    private long resolveGapTargetAmount(DreamHome dreamHome, Long latestDealAmountNum) {
         long fallbackTarget = dreamHome.getTargetAmount() != null ? dreamHome.getTargetAmount() : 0L;
-        String aptSeq = dreamHome.getAptSeq();
-        if (aptSeq == null) {
-            return fallbackTarget;
-        }
-        Long latestDealAmountNum = apartmentDealMapper.findLatestDealAmountNumByAptSeq(aptSeq);
-        if (latestDealAmountNum == null) {
+        if (dreamHome.getAptSeq() == null || latestDealAmountNum == null) {
             return fallbackTarget;
         }
         return latestDealAmountNum * 10_000;
     }
 
     /**
-     * 최신 거래가 조회 (linkedProperty용)
-     * @param dreamHome 드림홈 엔티티
-     * @return 최신 거래가 (원 단위), 없으면 null
+     * 드림홈 아파트 최신 거래가 조회 (만원 단위)
+     * Gap Analysis와 linkedProperty가 같은 값을 쓰므로 요청 단위로 한 번만 조회
      */
-    private Long resolveLatestDealPrice(DreamHome dreamHome) {
-        if (dreamHome == null) {
-            return null;
+    private CompletableFuture<Long> loadLatestDealAmountNum(DashboardLoaders loaders, DreamHome dreamHome) {
+        if (dreamHome == null || dreamHome.getAptSeq() == null) {
+            return CompletableFuture.completedFuture(null);
         }
         String aptSeq = dreamHome.getAptSeq();
-        if (aptSeq == null) {
-            return null;
-        }
-        Long latestDealAmountNum = apartmentDealMapper.findLatestDealAmountNumByAptSeq(aptSeq);
-        if (latestDealAmountNum == null) {
-            return null;
-        }
-        return latestDealAmountNum * 10_000;
+        return loaders.memoize("latestDealAmountNum:" + aptSeq,
+                () -> apartmentDealMapper.findLatestDealAmountNumByAptSeq(aptSeq));
+    }
+
+    /**
+     * 최신 거래가 원 단위 변환 (linkedProperty용)
+     * @return 최신 거래가 (원 단위), 없으면 null
+     */
+    private Long toWon(Long latestDealAmountNum) {
+        return latestDealAmountNum != null ? latestDealAmountNum * 10_000 : null;
     }
 
     /**
      * 선호 지역 평균 시세 조회
      * - UserPreferredArea 테이블에서 첫 번째 지역
-     * - 해당 지역의 최근 거래 평균가
+     * - 해당 지역의 최근 거래 평균가 (region_price_stats 기준)
      * - 실패 시 기본값(9.5억) 반환
      */
     private long getRegionAveragePrice(Long userId, List<String> preferredAreas) {
@@ -306,7 +338,7 @@ public class DashboardService {
             }
 
             String firstArea = normalizeToGugun(preferredAreas.get(0));
-            Long avgPrice = apartmentDealMapper.findAverageRecentDealAmountByGugun(firstArea);
+            Long avgPrice = regionPriceStatsService.findRecentAverageAmount(firstArea, LocalDate.now(clock));
             if (avgPrice != null && avgPrice > 0) {
                 return avgPrice;
             }
@@ -318,19 +350,11 @@ public class DashboardService {
         return DEFAULT_REGION_AVG_PRICE;
     }
 
-    private void invalidateDsrCacheIfPresent(Long userId, User user) {
-        if (user.getCachedMaxLoanAmount() == null) {
-            return;
-        }
-        try {
-            int updated = userMapper.invalidateDsrCache(userId);
-            log.info("Invalidated stale DSR cache for user {} (rows={})", userId, updated);
-        } catch (DataAccessException e) {
-            log.warn("Failed to invalidate DSR cache for user {}.", userId, e);
-        }
-    }
-
-    private record DsrCalculationContext(DsrResult dsrResult, long maxLoanAmount, long recognizedAnnualIncome) {}
+    /**
+     * @param staleDsrCache PRO 이력 없이 남아 있는 DSR 캐시 여부 (비동기 무효화 대상)
+     */
+    private record DsrCalculationContext(DsrResult dsrResult, long maxLoanAmount, long recognizedAnnualIncome,
+                                         boolean staleDsrCache) {}
 
     // ==========================================================================
     // Private Helper Methods
@@ -413,24 +437,29 @@ public class DashboardService {
         return new ResolvedLevel(DEFAULT_LEVEL, fallback);
     }
 
-    private AssetsData buildAssetsData(DreamHome dreamHome, LocalDate today) {
+    /**
+     * 자산 데이터 조회 (윈도우 시작 잔액과 윈도우 내 거래를 병렬 조회)
+     */
+    private CompletableFuture<AssetsData> loadAssetsData(DashboardLoaders loaders, DreamHome dreamHome, LocalDate today) {
         if (dreamHome == null || dreamHome.getDreamHomeId() == null) {
-            return EMPTY_ASSETS;
+            return CompletableFuture.completedFuture(EMPTY_ASSETS);
         }
 
         Long dreamHomeId = dreamHome.getDreamHomeId();
         TimeWindow window = TimeWindow.from(today);
 
-        long windowStartBalance = defaultIfNull(
-                savingsHistoryMapper.sumBeforeDate(dreamHomeId, window.windowStartDateTime()),
-                0L
-        );
+        CompletableFuture<Long> startBalanceFuture = loaders.load(
+                () -> savingsHistoryMapper.sumBeforeDate(dreamHomeId, window.windowStartDateTime()));
+        CompletableFuture<List<SavingsHistory>> transactionsFuture = loaders.load(
+                () -> savingsHistoryMapper.findByDreamHomeIdAndDateRange(
+                        dreamHomeId, window.windowStartDateTime(), window.windowEndDateTime()));
 
-        List<SavingsHistory> transactions = defaultIfNull(
-                savingsHistoryMapper.findByDreamHomeIdAndDateRange(dreamHomeId, window.windowStartDateTime(), window.windowEndDateTime()),
-                List.of()
-        );
+        return startBalanceFuture.thenCombine(transactionsFuture, (startBalance, transactions) ->
+                buildAssetsData(dreamHome, window, defaultIfNull(startBalance, 0L), defaultIfNull(transactions, List.of())));
+    }
 
+    private AssetsData buildAssetsData(DreamHome dreamHome, TimeWindow window, long windowStartBalance,
+                                       List<SavingsHistory> transactions) {
         List<ChartData> chartData = buildChartData(window.windowStart(), window.windowEnd(), windowStartBalance, transactions);
 
         long totalAsset = defaultIfNull(dreamHome.getCurrentSavedAmount(), 0L);
@@ -499,8 +528,49 @@ public class DashboardService {
         return tokens[tokens.length - 1];
     }
 
+    /**
+     * 병렬 조회 결과 대기 (loader 예외는 원래 예외로 다시 던짐)
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
     private record ResolvedLevel(int level, GrowthLevel growthLevel) {}
 
+    /**
+     * 요청 단위 조회 실행기
+     * 각 조회는 읽기 전용 트랜잭션에서 실행되며, 같은 키의 조회는 요청 안에서 한 번만 실행 (memoize)
+     */
+    private static final class DashboardLoaders {
+        private final Executor executor;
+        private final TransactionTemplate readOnlyTransaction;
+        private final Map<String, CompletableFuture<?>> memo = new ConcurrentHashMap<>();
+
+        private DashboardLoaders(Executor executor, TransactionTemplate readOnlyTransaction) {
+            this.executor = executor;
+            this.readOnlyTransaction = readOnlyTransaction;
+        }
+
+        private <T> CompletableFuture<T> load(Supplier<T> loader) {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> loader.get()), executor);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> CompletableFuture<T> memoize(String key, Supplier<T> loader) {
+            return (CompletableFuture<T>) memo.computeIfAbsent(key, k -> load(loader));
+        }
+    }
+
     private record TimeWindow(LocalDate windowStart, LocalDate windowEnd, LocalDateTime windowStartDateTime, LocalDateTime windowEndDateTime) {
         private static TimeWindow from(LocalDate todayKst) {
             LocalDate start = todayKst.minusDays(CHART_WINDOW_DAYS - 1);
@@ -98,6 +98,7 @@ public class DreamHomeService {
         long newSavedAmount = updateSavedAmount(dreamHome, request);
 
         ExpLevelResult expResult = processExpAndLevel(userId, request);
+        collectionService.recordGoalExp(userId, dreamHome, expResult.expChange());
 
         // 입금(DEPOSIT) 시에만 스트릭 자동 참여
         StreakService.StreakResult streakResult = null;
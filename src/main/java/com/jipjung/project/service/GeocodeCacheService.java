@@ -0,0 +1,147 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.GeocodeCache;
+import com.jipjung.project.external.kakao.KakaoGeoClient;
+import com.jipjung.project.repository.GeocodeCacheMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주소 geocoding 결과 캐시 서비스
+ * <p>
+ * 인메모리 LRU → geocode_cache 테이블 순으로 조회하며, 정규화된 주소를 키로 사용합니다.
+ * 좌표를 찾은 결과는 positive TTL, 찾지 못한 결과는 negative TTL 동안 재조회하지 않습니다.
+ * 네트워크 오류 등 확정되지 않은 결과는 저장하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodeCacheService {
+
+    private static final int MAX_ADDRESS_KEY_LENGTH = 255;
+
+    private final GeocodeCacheMapper geocodeCacheMapper;
+    private final Clock clock;
+
+    @Value("${kakao.api.geocode-cache.positive-ttl-days:180}")
+    private long positiveTtlDays;
+
+    @Value("${kakao.api.geocode-cache.negative-ttl-hours:168}")
+    private long negativeTtlHours;
+
+    @Value("${kakao.api.geocode-cache.memory-max-entries:10000}")
+    private int memoryMaxEntries;
+
+    private Map<String, GeocodeCache> memoryCache;
+
+    @PostConstruct
+    void initMemoryCache() {
+        int maxEntries = Math.max(1, memoryMaxEntries);
+        memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GeocodeCache> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 캐시 조회 (만료되지 않은 결과만)
+     *
+     * @param address 원본 주소
+     * @return 캐시된 결과 (미발견 결과 포함), 없으면 empty
+     */
+    public Optional<GeocodeCache> find(String address) {
+        String key = toAddressKey(address);
+        if (key == null) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        GeocodeCache cached = memoryCache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            memoryCache.remove(key);
+        }
+
+        try {
+            GeocodeCache stored = geocodeCacheMapper.findValid(key, now);
+            if (stored != null) {
+                memoryCache.put(key, stored);
+                return Optional.of(stored);
+            }
+        } catch (Exception e) {
+            log.warn("[Geo] Geocode cache lookup failed (address={}, error={})", address, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * geocoding 결과 저장 (FOUND / NOT_FOUND만)
+     */
+    public void put(String address, KakaoGeoClient.GeocodeResult result) {
+        String key = toAddressKey(address);
+        if (key == null || result == null || !result.isDefinitive()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        KakaoGeoClient.KakaoCoordinates coords = result.coordinates();
+        boolean found = coords != null;
+        GeocodeCache cache = GeocodeCache.builder()
+                .addressKey(key)
+                .found(found)
+                .latitude(found ? coords.latitude() : null)
+                .longitude(found ? coords.longitude() : null)
+                .expiresAt(found ? now.plusDays(positiveTtlDays) : now.plusHours(negativeTtlHours))
+                .createdAt(now)
+                .build();
+
+        memoryCache.put(key, cache);
+        try {
+            geocodeCacheMapper.upsert(cache);
+        } catch (Exception e) {
+            log.warn("[Geo] Geocode cache save failed (address={}, error={})", address, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 캐시 정리
+     */
+    @Scheduled(cron = "${kakao.api.geocode-cache.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpired() {
+        int deleted = geocodeCacheMapper.deleteExpired(LocalDateTime.now(clock));
+        if (deleted > 0) {
+            log.info("[Geo] Expired geocode cache deleted: {}", deleted);
+        }
+    }
+
+    /**
+     * 주소 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자화)
+     * 255자를 넘으면 sha256 해시로 대체
+     */
+    static String toAddressKey(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String normalized = address.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_ADDRESS_KEY_LENGTH) {
+            return "sha256:" + DigestUtils.sha256Hex(normalized);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,151 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.external.kakao.KakaoGeoClient;
+import com.jipjung.project.repository.ApartmentMapper;
+import com.jipjung.project.repository.GeocodeQueueMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 좌표 보완 대기열 서비스
+ * <p>
+ * 동기화 트랜잭션에서는 좌표가 없는 apt_seq를 geocode_queue에 적재만 하고,
+ * Kakao 호출은 별도 스케줄 단계에서 대기열을 비우며 수행합니다.
+ * 외부 API 지연이 동기화 트랜잭션/DB 커넥션 점유 시간에 포함되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodeQueueService {
+
+    private final GeocodeQueueMapper geocodeQueueMapper;
+    private final ApartmentMapper apartmentMapper;
+    private final ApartmentGeocodingService geocodingService;
+    private final KakaoGeoClient kakaoGeoClient;
+    private final Clock clock;
+
+    @Value("${kakao.api.geocode-queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kakao.api.geocode-queue.batch-size:50}")
+    private int batchSize;
+
+    @Value("${kakao.api.geocode-queue.max-per-run:500}")
+    private int maxPerRun;
+
+    @Value("${kakao.api.geocode-queue.retry-delay-minutes:60}")
+    private long retryDelayMinutes;
+
+    @Value("${kakao.api.geocode-queue.max-attempts:3}")
+    private int maxAttempts;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    /**
+     * 좌표 보완 대상 적재 (호출자 트랜잭션에 참여)
+     * 좌표가 이미 있거나 대기 중인 아파트는 무시됩니다.
+     *
+     * @return 새로 적재된 건수
+     */
+    public int enqueue(Collection<String> aptSeqs) {
+        if (aptSeqs == null || aptSeqs.isEmpty()) {
+            return 0;
+        }
+        return geocodeQueueMapper.enqueueMissing(aptSeqs, LocalDateTime.now(clock));
+    }
+
+    /**
+     * 대기 중인 항목 수
+     */
+    public long countPending() {
+        return geocodeQueueMapper.countPending();
+    }
+
+    /**
+     * 대기열 처리 (스케줄)
+     */
+    @Scheduled(fixedDelayString = "${kakao.api.geocode-queue.drain-delay-ms:10000}",
+            initialDelayString = "${kakao.api.geocode-queue.drain-delay-ms:10000}")
+    public void drainScheduled() {
+        if (!enabled || !kakaoGeoClient.isEnabled()) {
+            return;
+        }
+        drain(maxPerRun);
+    }
+
+    /**
+     * 대기열 처리
+     * 좌표를 찾은 항목과 이미 좌표가 채워진 항목은 삭제하고,
+     * 찾지 못한 항목은 retry-delay 후 재시도하며 max-attempts를 넘기면 정리합니다.
+     *
+     * @param limit 이번 실행에서 처리할 최대 항목 수
+     * @return 좌표가 반영된 아파트 수 (이미 실행 중이면 0)
+     */
+    public int drain(int limit) {
+        if (!draining.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return drainInternal(Math.max(1, limit));
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private int drainInternal(int limit) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int pageSize = Math.max(1, batchSize);
+        int processed = 0;
+        int resolvedCount = 0;
+        int retried = 0;
+
+        while (processed < limit) {
+            List<String> due = geocodeQueueMapper.findDue(now, Math.min(pageSize, limit - processed));
+            if (due.isEmpty()) {
+                break;
+            }
+
+            List<Apartment> targets = apartmentMapper.findMissingCoordinatesByAptSeqs(due);
+            Set<String> resolved = geocodingService.geocodeAll(targets);
+
+            List<String> failed = new ArrayList<>();
+            for (Apartment apartment : targets) {
+                if (!resolved.contains(apartment.getAptSeq())) {
+                    failed.add(apartment.getAptSeq());
+                }
+            }
+            List<String> done = new ArrayList<>(due);
+            done.removeAll(failed);
+
+            if (!done.isEmpty()) {
+                geocodeQueueMapper.deleteByAptSeqs(done);
+            }
+            if (!failed.isEmpty()) {
+                geocodeQueueMapper.markRetry(failed, now.plusMinutes(retryDelayMinutes));
+            }
+
+            processed += due.size();
+            resolvedCount += resolved.size();
+            retried += failed.size();
+        }
+
+        int exhausted = processed > 0 ? geocodeQueueMapper.deleteExhausted(maxAttempts) : 0;
+        if (processed > 0) {
+            log.info("[Geo] Queue drained: processed={}, resolved={}, retry={}, exhausted={}",
+                    processed, resolvedCount, retried, exhausted);
+        }
+        return resolvedCount;
+    }
+}
@@ -0,0 +1,274 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.controller.dto.request.MolitBackfillRequest;
+import com.jipjung.project.global.exception.BusinessException;
+import com.jipjung.project.global.exception.ErrorCode;
+import com.jipjung.project.repository.MolitSyncHistoryMapper;
+import com.jipjung.project.service.dto.BackfillProgress;
+import com.jipjung.project.service.dto.SyncResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MOLIT 실거래 백필 서비스
+ * <p>
+ * 여러 시군구 × 여러 거래년월을 워커 풀(molitBackfillExecutor)로 병렬 동기화합니다.
+ * <ul>
+ *   <li>API 호출 속도는 MolitApiClient의 공용 토큰 버킷으로 워커 수와 무관하게 제한</li>
+ *   <li>지역/년월 단위 완료 여부는 molit_sync_history(status = DONE)에 기록되어,
+ *       서버 재시작 후 같은 요청을 다시 보내면 완료된 작업을 건너뛰고 이어서 진행</li>
+ *   <li>진행 상황/처리량은 /api/admin/sync/status로 조회</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class MolitBackfillService {
+
+    private static final DateTimeFormatter YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final ApartmentSyncService syncService;
+    private final MolitSyncHistoryMapper syncHistoryMapper;
+    private final RegionDictionary regionDictionary;
+    private final Executor backfillExecutor;
+    private final Clock clock;
+
+    @Value("${molit.backfill.max-tasks:10000}")
+    private int maxTasks;
+
+    @Value("${molit.api.sync-cooldown-hours:24}")
+    private int syncCooldownHours;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile BackfillJob currentJob;
+
+    public MolitBackfillService(ApartmentSyncService syncService,
+                                MolitSyncHistoryMapper syncHistoryMapper,
+                                RegionDictionary regionDictionary,
+                                @Qualifier("molitBackfillExecutor") Executor backfillExecutor,
+                                Clock clock) {
+        this.syncService = syncService;
+        this.syncHistoryMapper = syncHistoryMapper;
+        this.regionDictionary = regionDictionary;
+        this.backfillExecutor = backfillExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * 백필 시작 (비동기)
+     * 작업 계획 후 즉시 반환하며, 실제 동기화는 워커 풀에서 진행됩니다.
+     *
+     * @return 시작 시점 진행 상황
+     * @throws BusinessException 관리자 동기화 비활성화 또는 이미 실행 중인 경우
+     */
+    public BackfillProgress start(MolitBackfillRequest request) {
+        if (!syncService.isAdminEnabled()) {
+            throw new BusinessException(ErrorCode.SYNC_ADMIN_DISABLED);
+        }
+        YearMonth from = parseYearMonth(request.fromYmd());
+        YearMonth to = parseYearMonth(request.toYmd());
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 거래년월이 종료 거래년월보다 늦습니다");
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.SYNC_BACKFILL_ALREADY_RUNNING);
+        }
+        try {
+            List<String> lawdCds = resolveLawdCds(request.lawdCds());
+            Set<String> completed = request.force() ? Set.of() : findCompletedKeys(from, to);
+            BackfillPlan plan = planTasks(lawdCds, from, to, completed);
+
+            BackfillJob job = new BackfillJob(request.fromYmd(), request.toYmd(),
+                    plan.tasks().size() + plan.resumedTasks(), plan.resumedTasks(), LocalDateTime.now(clock));
+            currentJob = job;
+
+            log.info("[Backfill] 시작: lawdCds={}, range={}~{}, tasks={}, resumed={}",
+                    lawdCds.size(), request.fromYmd(), request.toYmd(), plan.tasks().size(), plan.resumedTasks());
+
+            CompletableFuture<?>[] futures = plan.tasks().stream()
+                    .map(task -> CompletableFuture.runAsync(() -> runTask(job, task), backfillExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).whenComplete((ignored, error) -> finish(job, error));
+            return job.toProgress();
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 현재(또는 마지막) 백필 진행 상황
+     */
+    public BackfillProgress getProgress() {
+        BackfillJob job = currentJob;
+        return job != null ? job.toProgress() : BackfillProgress.idle();
+    }
+
+    private void runTask(BackfillJob job, BackfillTask task) {
+        try {
+            SyncResult result = syncService.syncByRegion(task.lawdCd(), task.dealYmd());
+            if (result.isError()) {
+                job.failedTasks.incrementAndGet();
+            } else {
+                job.completedTasks.incrementAndGet();
+                job.syncedDeals.addAndGet(result.syncedCount());
+            }
+        } catch (Exception e) {
+            job.failedTasks.incrementAndGet();
+            log.warn("[Backfill] 작업 실패: lawdCd={}, dealYmd={}, error={}",
+                    task.lawdCd(), task.dealYmd(), e.getMessage());
+        }
+    }
+
+    private void finish(BackfillJob job, Throwable error) {
+        job.finish(LocalDateTime.now(clock));
+        running.set(false);
+        if (error != null) {
+            log.error("[Backfill] 비정상 종료: {}", error.getMessage(), error);
+        }
+        BackfillProgress progress = job.toProgress();
+        log.info("[Backfill] 완료: completed={}, failed={}, resumed={}, syncedDeals={}, dealsPerSecond={}",
+                progress.completedTasks(), progress.failedTasks(), progress.resumedTasks(),
+                progress.syncedDeals(), String.format("%.2f", progress.dealsPerSecond()));
+    }
+
+    // =========================================================================
+    // 작업 계획
+    // =========================================================================
+
+    private List<String> resolveLawdCds(List<String> requested) {
+        List<String> lawdCds = requested == null || requested.isEmpty()
+                ? regionDictionary.getAllLawdCds()
+                : requested.stream().map(String::trim).distinct().toList();
+        if (lawdCds.isEmpty()) {
+            throw new IllegalArgumentException("백필 대상 시군구코드가 없습니다");
+        }
+        return lawdCds;
+    }
+
+    /**
+     * 완료된 지역/년월 키 조회
+     * 현재월은 데이터가 계속 추가되므로 cooldown 이내 완료만 인정
+     */
+    private Set<String> findCompletedKeys(YearMonth from, YearMonth to) {
+        String currentYmd = YearMonth.now(clock).format(YMD_FORMAT);
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(syncCooldownHours);
+
+        Set<String> keys = new HashSet<>();
+        for (MolitSyncHistoryMapper.CompletedSync sync
+                : syncHistoryMapper.findCompletedBetween(from.format(YMD_FORMAT), to.format(YMD_FORMAT))) {
+            boolean finalized = sync.dealYmd().compareTo(currentYmd) < 0
+                    || (sync.syncedAt() != null && !sync.syncedAt().isBefore(cutoff));
+            if (finalized) {
+                keys.add(taskKey(sync.lawdCd(), sync.dealYmd()));
+            }
+        }
+        return keys;
+    }
+
+    private BackfillPlan planTasks(List<String> lawdCds, YearMonth from, YearMonth to, Set<String> completed) {
+        List<BackfillTask> tasks = new ArrayList<>();
+        int resumedTasks = 0;
+        // 최근 월부터 지역을 순회하여 같은 월의 지역들이 먼저 채워지도록 정렬
+        for (YearMonth month = to; !month.isBefore(from); month = month.minusMonths(1)) {
+            String dealYmd = month.format(YMD_FORMAT);
+            for (String lawdCd : lawdCds) {
+                if (completed.contains(taskKey(lawdCd, dealYmd))) {
+                    resumedTasks++;
+                } else {
+                    tasks.add(new BackfillTask(lawdCd, dealYmd));
+                }
+            }
+        }
+        if (tasks.size() > maxTasks) {
+            throw new IllegalArgumentException(
+                    "백필 작업 수가 최대치를 초과했습니다 (tasks=" + tasks.size() + ", max=" + maxTasks + ")");
+        }
+        return new BackfillPlan(tasks, resumedTasks);
+    }
+
+    private YearMonth parseYearMonth(String ymd) {
+        try {
+            return YearMonth.parse(ymd, YMD_FORMAT);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("거래년월은 YYYYMM 형식이어야 합니다: " + ymd);
+        }
+    }
+
+    private static String taskKey(String lawdCd, String dealYmd) {
+        return lawdCd + ":" + dealYmd;
+    }
+
+    private record BackfillTask(String lawdCd, String dealYmd) {}
+
+    private record BackfillPlan(List<BackfillTask> tasks, int resumedTasks) {}
+
+    /**
+     * 실행 중인 백필 작업 상태 (워커 스레드에서 갱신)
+     */
+    private static final class BackfillJob {
+        private final String fromYmd;
+        private final String toYmd;
+        private final int totalTasks;
+        private final int resumedTasks;
+        private final LocalDateTime startedAt;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicInteger completedTasks = new AtomicInteger();
+        private final AtomicInteger failedTasks = new AtomicInteger();
+        private final AtomicLong syncedDeals = new AtomicLong();
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private BackfillJob(String fromYmd, String toYmd, int totalTasks, int resumedTasks, LocalDateTime startedAt) {
+            this.fromYmd = fromYmd;
+            this.toYmd = toYmd;
+            this.totalTasks = totalTasks;
+            this.resumedTasks = resumedTasks;
+            this.startedAt = startedAt;
+        }
+
+        private void finish(LocalDateTime finishedAt) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = finishedAt;
+        }
+
+        private BackfillProgress toProgress() {
+            LocalDateTime finished = finishedAt;
+            long endNanos = finished != null ? finishedNanos : System.nanoTime();
+            double elapsedSeconds = Math.max(1e-3, (endNanos - startedNanos) / 1_000_000_000.0);
+            int processed = completedTasks.get() + failedTasks.get();
+
+            return new BackfillProgress(
+                    finished != null ? BackfillProgress.STATUS_COMPLETED : BackfillProgress.STATUS_RUNNING,
+                    fromYmd,
+                    toYmd,
+                    totalTasks,
+                    resumedTasks,
+                    completedTasks.get(),
+                    failedTasks.get(),
+                    syncedDeals.get(),
+                    processed / elapsedSeconds * 60,
+                    syncedDeals.get() / elapsedSeconds,
+                    startedAt,
+                    finished
+            );
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.service.dto.PrincipalCacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * JWT 인증 필터용 사용자 principal 캐시
+ * <p>
+ * 인증된 요청마다 발생하던 이메일 기준 사용자 조회를 짧은 TTL 동안 재사용합니다.
+ * 프로필 수정/회원탈퇴/로그아웃 시 명시적으로 무효화하고
+ * 트랜잭션 안에서 호출된 경우 커밋 이후에 한 번 더 무효화합니다.
+ * 조회 실패(없는 사용자, 비활성 계정)는 캐시하지 않습니다.
+ * <ul>
+ *   <li>ConcurrentHashMap 기반으로 적중 경로에 전역 잠금이 없음</li>
+ *   <li>조회 중에는 사용자별 자리 표시 항목을 두고, 그 항목이 그대로 있을 때만 결과를 저장
+ *       (해당 사용자가 조회 중 무효화된 경우만 버리며 다른 사용자의 조회에는 영향 없음)</li>
+ *   <li>항목 수가 max-entries를 넘으면 만료 항목부터, 그래도 넘으면 임의 항목을 제거 (근사 상한)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final LongAdder authentications = new LongAdder();
+    private final LongAdder totalAuthNanos = new LongAdder();
+    private final LongAccumulator maxAuthNanos = new LongAccumulator(Math::max, 0L);
+
+    public PrincipalCache(Clock clock,
+                          @Value("${auth.principal-cache.enabled:true}") boolean enabled,
+                          @Value("${auth.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${auth.principal-cache.max-entries:10000}") int maxEntries) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.ttlMillis = Math.max(0, ttlSeconds) * 1_000L;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 loader로 조회 후 저장
+     * loader 실행 중 같은 사용자가 무효화되면 결과를 저장하지 않습니다.
+     */
+    public UserDetails get(String email, Supplier<UserDetails> loader) {
+        if (!enabled || ttlMillis == 0) {
+            return loader.get();
+        }
+
+        Entry cached = entries.get(email);
+        if (cached != null && cached.isValid(clock.millis())) {
+            hits.increment();
+            return cached.userDetails();
+        }
+        misses.increment();
+
+        Entry loading = Entry.loading();
+        entries.put(email, loading);
+        UserDetails loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            entries.remove(email, loading);
+            throw e;
+        }
+
+        if (entries.replace(email, loading, Entry.loaded(loaded, clock.millis() + ttlMillis))) {
+            evictOverflow();
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자 principal 무효화 (트랜잭션 내 호출 시 커밋 후 재무효화)
+     */
+    public void invalidate(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(email);
+                }
+            });
+        }
+    }
+
+    /**
+     * 인증 필터 처리 시간 기록 (토큰 검증 + principal 조회)
+     */
+    public void recordAuthentication(long elapsedNanos) {
+        authentications.increment();
+        totalAuthNanos.add(elapsedNanos);
+        maxAuthNanos.accumulate(elapsedNanos);
+    }
+
+    /**
+     * 캐시/인증 필터 통계 (카운터별 근사 스냅샷)
+     */
+    public PrincipalCacheStats getStats() {
+        long hitCount = hits.sum();
+        long requests = hitCount + misses.sum();
+        long authCount = authentications.sum();
+        return new PrincipalCacheStats(
+                entries.size(),
+                maxEntries,
+                ttlMillis / 1_000L,
+                hitCount,
+                requests - hitCount,
+                requests > 0 ? (double) hitCount / requests : 0.0,
+                evictions.sum(),
+                invalidations.sum(),
+                authCount,
+                authCount > 0 ? totalAuthNanos.sum() / 1_000.0 / authCount : 0.0,
+                maxAuthNanos.get() / 1_000.0
+        );
+    }
+
+    private void remove(String email) {
+        Entry removed = entries.remove(email);
+        if (removed != null && removed.userDetails() != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 상한 초과분 제거 (한 스레드만 수행, 나머지는 건너뜀)
+     */
+    private void evictOverflow() {
+        if (entries.size() <= maxEntries || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.millis();
+            evictWhileOverflow(entry -> entry.userDetails() != null && !entry.isValid(now));
+            evictWhileOverflow(entry -> entry.userDetails() != null);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void evictWhileOverflow(Predicate<Entry> candidate) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (candidate.test(iterator.next())) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 캐시 항목 (userDetails가 null이면 조회 중 자리 표시)
+     * 동일성(identity)으로 비교하므로 조회 시작 시 넣은 항목이 그대로인지 replace로 확인할 수 있습니다.
+     */
+    private static final class Entry {
+
+        private final UserDetails userDetails;
+        private final long expiresAtMillis;
+
+        private Entry(UserDetails userDetails, long expiresAtMillis) {
+            this.userDetails = userDetails;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private static Entry loading() {
+            return new Entry(null, 0L);
+        }
+
+        private static Entry loaded(UserDetails userDetails, long expiresAtMillis) {
+            return new Entry(userDetails, expiresAtMillis);
+        }
+
+        private UserDetails userDetails() {
+            return userDetails;
+        }
+
+        private boolean isValid(long nowMillis) {
+            return userDetails != null && expiresAtMillis > nowMillis;
+        }
+    }
+}
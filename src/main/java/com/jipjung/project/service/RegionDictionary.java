@@ -0,0 +1,332 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.repository.DongcodeMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 법정동코드 인메모리 지역 사전
+ * <p>
+ * dongcode 테이블(정적 데이터, 약 2만 행)을 시작 시 한 번 적재하여
+ * 검색/geocoding/백필/대시보드의 요청당 dongcode 조회를 메모리 조회로 대체합니다.
+ * <ul>
+ *   <li>시도 + 구군 → 시군구코드(lawdCd), 구군 → 시군구코드 목록</li>
+ *   <li>시군구코드 + 읍면동 → 법정동코드, 시군구코드 → 지역 prefix (시도 + 구군)</li>
+ * </ul>
+ * 시도명은 구/신 명칭과 약칭(예: 강원도, 강원 → 강원특별자치도)을 사전에 있는 명칭으로 맞추고,
+ * 구군명은 공백을 무시하며 "수원시 장안구"처럼 시 아래 구는 "장안구"로도 찾을 수 있습니다.
+ * 스냅샷은 불변이며 재적재 시 통째로 교체합니다 (실패 시 기존 스냅샷 유지).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegionDictionary {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    /**
+     * 시도 별칭 (구 명칭/약칭 → 후보 명칭, 사전에 존재하는 첫 후보 사용)
+     */
+    private static final Map<String, List<String>> SIDO_ALIASES = Map.ofEntries(
+            Map.entry("서울", List.of("서울특별시")),
+            Map.entry("서울시", List.of("서울특별시")),
+            Map.entry("부산", List.of("부산광역시")),
+            Map.entry("대구", List.of("대구광역시")),
+            Map.entry("인천", List.of("인천광역시")),
+            Map.entry("광주", List.of("광주광역시")),
+            Map.entry("대전", List.of("대전광역시")),
+            Map.entry("울산", List.of("울산광역시")),
+            Map.entry("세종", List.of("세종특별자치시")),
+            Map.entry("경기", List.of("경기도")),
+            Map.entry("강원", List.of("강원특별자치도", "강원도")),
+            Map.entry("강원도", List.of("강원특별자치도")),
+            Map.entry("강원특별자치도", List.of("강원도")),
+            Map.entry("충북", List.of("충청북도")),
+            Map.entry("충남", List.of("충청남도")),
+            Map.entry("전북", List.of("전북특별자치도", "전라북도")),
+            Map.entry("전라북도", List.of("전북특별자치도")),
+            Map.entry("전북특별자치도", List.of("전라북도")),
+            Map.entry("전남", List.of("전라남도")),
+            Map.entry("경북", List.of("경상북도")),
+            Map.entry("경남", List.of("경상남도")),
+            Map.entry("제주", List.of("제주특별자치도", "제주도")),
+            Map.entry("제주도", List.of("제주특별자치도"))
+    );
+
+    private final DongcodeMapper dongcodeMapper;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * DB 기준 전체 재적재
+     * 법정동코드 데이터 교체 후 재시작 없이 반영할 수 있도록 주기적으로도 수행합니다.
+     */
+    @Scheduled(cron = "${region.dictionary.refresh-cron:0 0 5 * * *}")
+    public synchronized void reload() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            Snapshot loaded = Snapshot.build(dongcodeMapper.findAll());
+            snapshot = loaded;
+            log.info("[Region] 지역 사전 적재 완료: rows={}, lawdCds={}, elapsedMs={}",
+                    loaded.rowCount(), loaded.allLawdCds().size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("[Region] 지역 사전 적재 실패 - 기존 사전 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 시작 시 적재에 실패한 경우 재시도
+     * 조회 경로에서는 적재하지 않으므로(빈 사전 반환) 적재될 때까지 여기서만 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${region.dictionary.retry-delay-ms:60000}",
+            initialDelayString = "${region.dictionary.retry-delay-ms:60000}")
+    public void retryIfNotLoaded() {
+        if (snapshot == null) {
+            reload();
+        }
+    }
+
+    /**
+     * 시도/구군명으로 시군구코드 조회
+     *
+     * @param sido  시도명 (null이면 구군명만으로 조회)
+     * @param gugun 구군명
+     * @return 시군구코드 (5자리), 없으면 null
+     */
+    public String findLawdCd(String sido, String gugun) {
+        String gugunKey = normalize(gugun);
+        if (gugunKey.isEmpty()) {
+            return null;
+        }
+        Snapshot current = snapshot();
+        String sidoKey = normalize(sido);
+        if (sidoKey.isEmpty()) {
+            return current.lawdCdByGugun().get(gugunKey);
+        }
+        String canonicalSido = current.canonicalSido(sidoKey);
+        return canonicalSido != null
+                ? current.lawdCdBySidoGugun().get(canonicalSido + KEY_SEPARATOR + gugunKey)
+                : null;
+    }
+
+    /**
+     * 구군명 기준 시군구코드 목록 (같은 이름의 구군이 여러 시도에 있을 수 있음)
+     */
+    public List<String> findLawdCdsByGugun(String gugun) {
+        String gugunKey = normalize(gugun);
+        if (gugunKey.isEmpty()) {
+            return List.of();
+        }
+        return snapshot().lawdCdsByGugun().getOrDefault(gugunKey, List.of());
+    }
+
+    /**
+     * 시군구코드 + 읍면동명으로 법정동코드 조회
+     */
+    public String findDongCode(String sggCd, String umdNm) {
+        String umdKey = normalize(umdNm);
+        if (sggCd == null || umdKey.isEmpty()) {
+            return null;
+        }
+        return snapshot().dongCodeBySggUmd().get(sggCd.trim() + KEY_SEPARATOR + umdKey);
+    }
+
+    /**
+     * 시군구코드 기준 지역 prefix (예: "경기도 수원시 장안구")
+     */
+    public String findRegionPrefix(String sggCd) {
+        if (sggCd == null) {
+            return null;
+        }
+        return snapshot().regionPrefixBySgg().get(sggCd.trim());
+    }
+
+    /**
+     * 전체 시군구코드 (오름차순, 시도 단위 코드 제외)
+     */
+    public List<String> getAllLawdCds() {
+        return snapshot().allLawdCds();
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * 현재 스냅샷 (적재 전이거나 적재 실패 시 빈 사전)
+     * 요청 스레드가 synchronized reload()에 줄 서지 않도록 조회 경로에서는 적재하지 않습니다.
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : Snapshot.EMPTY;
+    }
+
+    /**
+     * 공백 제거 (예: "수원시 장안구" → "수원시장안구")
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 시도 단위 코드 여부 (법정동코드 3~5번째 자리가 000)
+     */
+    private static boolean isSidoLevel(String lawdCd) {
+        return lawdCd.endsWith("000");
+    }
+
+    // =========================================================================
+    // 불변 스냅샷
+    // =========================================================================
+
+    private record Snapshot(
+            int rowCount,
+            Set<String> sidoNames,
+            Map<String, String> lawdCdBySidoGugun,
+            Map<String, String> lawdCdByGugun,
+            Map<String, List<String>> lawdCdsByGugun,
+            Map<String, String> dongCodeBySggUmd,
+            Map<String, String> regionPrefixBySgg,
+            List<String> allLawdCds
+    ) {
+        private static final Snapshot EMPTY = build(List.of());
+
+        private static Snapshot build(List<DongcodeMapper.DongcodeRow> rows) {
+            Map<String, String> pool = new HashMap<>();
+            Set<String> sidoNames = new HashSet<>();
+            Map<String, String> lawdCdBySidoGugun = new HashMap<>();
+            Map<String, String> lawdCdByGugun = new HashMap<>();
+            Map<String, TreeSet<String>> lawdCdsByGugun = new HashMap<>();
+            Map<String, String> dongCodeBySggUmd = new HashMap<>();
+            Map<String, String> regionPrefixBySgg = new HashMap<>();
+            Map<String, TreeSet<String>> lawdCdsBySubGugun = new HashMap<>();
+            TreeSet<String> allLawdCds = new TreeSet<>();
+
+            int rowCount = 0;
+            for (DongcodeMapper.DongcodeRow row : rows) {
+                String dongCode = row.dongCode();
+                if (dongCode == null || dongCode.length() < 5) {
+                    continue;
+                }
+                rowCount++;
+                // 같은 시군구의 행들이 하나의 lawdCd 인스턴스를 공유하도록 풀링
+                String lawdCd = pool.computeIfAbsent(dongCode.substring(0, 5), key -> key);
+                String sidoKey = normalize(row.sidoName());
+                String gugunKey = normalize(row.gugunName());
+                String umdKey = normalize(row.dongName());
+
+                if (!sidoKey.isEmpty()) {
+                    sidoNames.add(sidoKey);
+                }
+                if (!gugunKey.isEmpty()) {
+                    lawdCdBySidoGugun.merge(sidoKey + KEY_SEPARATOR + gugunKey, lawdCd, Snapshot::min);
+                    lawdCdByGugun.merge(gugunKey, lawdCd, Snapshot::min);
+                }
+                if (isSidoLevel(lawdCd)) {
+                    continue;
+                }
+
+                allLawdCds.add(lawdCd);
+                if (!gugunKey.isEmpty()) {
+                    lawdCdsByGugun.computeIfAbsent(gugunKey, key -> new TreeSet<>()).add(lawdCd);
+                    addSubGugun(row.gugunName(), lawdCd, lawdCdsBySubGugun);
+                }
+                if (!umdKey.isEmpty()) {
+                    dongCodeBySggUmd.merge(lawdCd + KEY_SEPARATOR + umdKey, dongCode, Snapshot::min);
+                }
+                regionPrefixBySgg.putIfAbsent(lawdCd, buildPrefix(row.sidoName(), row.gugunName()));
+            }
+
+            // "장안구"처럼 시 아래 구 이름만 들어온 경우 (정식 구군명이 우선)
+            lawdCdsBySubGugun.forEach((subGugun, lawdCds) -> {
+                if (!lawdCdsByGugun.containsKey(subGugun)) {
+                    lawdCdsByGugun.put(subGugun, lawdCds);
+                    lawdCdByGugun.put(subGugun, lawdCds.first());
+                }
+            });
+
+            Map<String, List<String>> frozenLawdCdsByGugun = new HashMap<>();
+            lawdCdsByGugun.forEach((gugun, lawdCds) -> frozenLawdCdsByGugun.put(gugun, List.copyOf(lawdCds)));
+
+            return new Snapshot(
+                    rowCount,
+                    Set.copyOf(sidoNames),
+                    Map.copyOf(lawdCdBySidoGugun),
+                    Map.copyOf(lawdCdByGugun),
+                    Map.copyOf(frozenLawdCdsByGugun),
+                    Map.copyOf(dongCodeBySggUmd),
+                    Map.copyOf(regionPrefixBySgg),
+                    List.copyOf(allLawdCds)
+            );
+        }
+
+        /**
+         * 사전에 존재하는 시도명으로 변환 (정식 명칭 → 별칭 후보 순)
+         */
+        private String canonicalSido(String sidoKey) {
+            if (sidoNames.contains(sidoKey)) {
+                return sidoKey;
+            }
+            for (String candidate : SIDO_ALIASES.getOrDefault(sidoKey, List.of())) {
+                if (sidoNames.contains(candidate)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private static void addSubGugun(String gugunName, String lawdCd, Map<String, TreeSet<String>> lawdCdsBySubGugun) {
+            String trimmed = gugunName.trim();
+            int lastSpace = trimmed.lastIndexOf(' ');
+            if (lastSpace < 0) {
+                return;
+            }
+            String subGugun = normalize(trimmed.substring(lastSpace + 1));
+            if (!subGugun.isEmpty()) {
+                lawdCdsBySubGugun.computeIfAbsent(subGugun, key -> new TreeSet<>()).add(lawdCd);
+            }
+        }
+
+        private static String buildPrefix(String sidoName, String gugunName) {
+            List<String> parts = new ArrayList<>(2);
+            if (sidoName != null && !sidoName.isBlank()) {
+                parts.add(sidoName.trim());
+            }
+            if (gugunName != null && !gugunName.isBlank()) {
+                parts.add(gugunName.trim());
+            }
+            return String.join(" ", parts);
+        }
+
+        private static String min(String left, String right) {
+            return left.compareTo(right) <= 0 ? left : right;
+        }
+    }
+}
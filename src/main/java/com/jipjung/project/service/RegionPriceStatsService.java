@@ -0,0 +1,157 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.repository.RegionPriceStatsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시군구/거래년월별 실거래가 통계 서비스
+ * <p>
+ * 동기화 파이프라인이 지역/년월 단위로 거래를 저장한 뒤 해당 지역/년월 통계만 다시 계산하고,
+ * 대시보드 등 조회 측은 region_price_stats PK 범위 조회로 평균 시세를 구합니다.
+ * 초기 적재 데이터는 시작 시 통계가 비어 있으면 전체 재구축으로 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegionPriceStatsService {
+
+    private static final DateTimeFormatter YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long WON_PER_MANWON = 10_000L;
+
+    private final RegionPriceStatsMapper regionPriceStatsMapper;
+    private final RegionDictionary regionDictionary;
+
+    @Value("${region-price-stats.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            if (regionPriceStatsMapper.count() == 0) {
+                rebuildAll();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Stats] 시작 시 지역 시세 통계 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 시군구/거래년월 통계 재계산 (동기화 트랜잭션 안에서 호출)
+     *
+     * @param sggCd   시군구코드 (5자리)
+     * @param dealYmd 거래년월 (YYYYMM)
+     * @return 통계가 저장되었으면 true (거래가 없어 삭제되었으면 false)
+     */
+    public boolean refresh(String sggCd, String dealYmd) {
+        YearMonth month = YearMonth.parse(dealYmd, YMD_FORMAT);
+        return refresh(sggCd, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * 전체 재구축 (시작 시 / 관리자 수동 트리거)
+     * <p>
+     * 테이블을 비우지 않고 시군구/거래년월 단위로 upsert한 뒤, 거래가 없어진 키만 마지막에 정리합니다.
+     * 키 단위로 바로 커밋되므로 재구축 중에도 조회 측은 이전 값 또는 새 값을 보며,
+     * 하나의 긴 트랜잭션으로 테이블 전체를 잡지 않습니다.
+     * 정리 대상 키는 삭제 전에 거래를 다시 집계하므로 재구축 중 동기화로 새로 생긴 통계는 지워지지 않습니다.
+     *
+     * @return 적재된 시군구/거래년월 수
+     */
+    public int rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        Set<RegionPriceStatsMapper.StatsKey> rebuiltKeys = new HashSet<>();
+        for (RegionPriceStatsMapper.RegionMonth regionMonth : regionPriceStatsMapper.findAllRegionMonths()) {
+            if (regionMonth.sggCd() == null || regionMonth.dealYear() == null || regionMonth.dealMonth() == null) {
+                continue;
+            }
+            if (refresh(regionMonth.sggCd(), regionMonth.dealYear(), regionMonth.dealMonth())) {
+                rebuiltKeys.add(new RegionPriceStatsMapper.StatsKey(regionMonth.sggCd(),
+                        YearMonth.of(regionMonth.dealYear(), regionMonth.dealMonth()).format(YMD_FORMAT)));
+            }
+        }
+
+        int removed = 0;
+        for (RegionPriceStatsMapper.StatsKey key : regionPriceStatsMapper.findAllKeys()) {
+            if (!rebuiltKeys.contains(key) && !refresh(key.sggCd(), key.dealYm())) {
+                removed++;
+            }
+        }
+        log.info("[Stats] 지역 시세 통계 재구축 완료: rebuilt={}, removed={}, elapsedMs={}",
+                rebuiltKeys.size(), removed, System.currentTimeMillis() - startedAt);
+        return rebuiltKeys.size();
+    }
+
+    /**
+     * 구군명 기준 최근 거래 평균가 (원)
+     * 작년 1월부터 기준일이 속한 달까지의 거래를 시군구/월 통계의 거래 건수로 가중 평균합니다.
+     *
+     * @param gugunName 구군명 (예: "강남구")
+     * @param today     기준일
+     * @return 평균 거래금액 (원), 통계가 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public Long findRecentAverageAmount(String gugunName, LocalDate today) {
+        if (gugunName == null || gugunName.isBlank()) {
+            return null;
+        }
+        List<String> sggCds = regionDictionary.findLawdCdsByGugun(gugunName);
+        if (sggCds.isEmpty()) {
+            return null;
+        }
+        String fromYm = YearMonth.of(today.getYear() - 1, 1).format(YMD_FORMAT);
+        Long avgAmount = regionPriceStatsMapper.findWeightedAverageAmount(sggCds, fromYm);
+        return avgAmount != null ? avgAmount * WON_PER_MANWON : null;
+    }
+
+    private boolean refresh(String sggCd, int dealYear, int dealMonth) {
+        String dealYm = YearMonth.of(dealYear, dealMonth).format(YMD_FORMAT);
+        List<Long> amounts = regionPriceStatsMapper.findDealAmounts(sggCd, dealYear, dealMonth);
+        if (amounts.isEmpty()) {
+            regionPriceStatsMapper.delete(sggCd, dealYm);
+            return false;
+        }
+
+        long sum = 0;
+        for (Long amount : amounts) {
+            sum += amount;
+        }
+        regionPriceStatsMapper.upsert(
+                sggCd,
+                dealYm,
+                amounts.size(),
+                Math.round((double) sum / amounts.size()),
+                percentile(amounts, 0.25),
+                percentile(amounts, 0.5),
+                percentile(amounts, 0.75)
+        );
+        return true;
+    }
+
+    /**
+     * 선형 보간 백분위수 (정렬된 목록 기준, PERCENTILE_CONT와 동일)
+     */
+    static long percentile(List<Long> sorted, double quantile) {
+        double position = quantile * (sorted.size() - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        long lowerValue = sorted.get(lower);
+        long upperValue = sorted.get(upper);
+        return Math.round(lowerValue + (upperValue - lowerValue) * (position - lower));
+    }
+}
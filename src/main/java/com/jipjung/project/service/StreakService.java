@@ -11,11 +11,14 @@ import com.jipjung.project.repository.DailyActivityMapper;
 import com.jipjung.project.repository.StreakHistoryMapper;
 import com.jipjung.project.repository.StreakMilestoneRewardMapper;
 import com.jipjung.project.repository.UserMapper;
+import com.jipjung.project.service.dto.StreakParticipationStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -76,8 +79,15 @@ public class StreakService {
     private final StreakMilestoneRewardMapper milestoneRewardMapper;
     private final UserMapper userMapper;
     private final CollectionService collectionService;
+    private final DailyActivityCounter dailyActivityCounter;
     private final Clock clock;
 
+    // 사용자 row lock 보유 시간 통계 (잠금 획득 ~ participate 종료, 커밋 시간 제외)
+    private long lockedParticipations;
+    private long lockedDuplicates;
+    private long totalLockHeldNanos;
+    private long maxLockHeldNanos;
+
     // =========================================================================
     // 공개 API 메서드
     // =========================================================================
@@ -88,10 +98,13 @@ public class StreakService {
      * 다양한 활동 유형에 대해 스트릭과 EXP를 처리합니다.
      * 
      * <h4>멱등성 보장</h4>
-     * UNIQUE 제약 위반 시 예외를 catch하여 alreadyParticipated를 반환합니다.
-     * 
+     * 활동 기록은 INSERT IGNORE로 저장하며, UNIQUE 제약으로 무시되면 alreadyParticipated를 반환합니다.
+     *
      * <h4>동시성 안전</h4>
-     * try-catch로 동시 요청에도 안전하게 처리됩니다.
+     * 사용자 row lock 구간은 활동 INSERT IGNORE, 사용자 UPDATE 1회(스트릭/EXP/레벨)로 한정합니다.
+     * 일일 EXP 합계는 잠긴 사용자 행의 daily_exp(활동 기록과 같은 UPDATE로 갱신)에서 읽으므로
+     * 다른 인스턴스가 기록한 활동도 추가 조회 없이 반영됩니다.
+     * 목표 XP 스냅샷/완료 확인은 커밋 이후 별도 트랜잭션에서 처리합니다.
      *
      * @param userId 사용자 ID
      * @param activityType 활동 유형
@@ -101,7 +114,7 @@ public class StreakService {
     public StreakResult participate(Long userId, ActivityType activityType) {
         LocalDate today = LocalDate.now(clock);  // KST 기준
 
-        // 1. 이 활동 유형으로 오늘 이미 참여했는지 확인 (빠른 체크)
+        // 1. 이 활동 유형으로 오늘 이미 참여했는지 확인 (일일 카운터, 잠금 없음)
         if (alreadyParticipatedToday(userId, today, activityType)) {
             log.debug("User {} already participated today with activity {}", userId, activityType);
             return StreakResult.alreadyParticipated(activityType);
@@ -109,39 +122,51 @@ public class StreakService {
 
         // 2. 사용자 row lock으로 사용자 단위 직렬화 (일일 캡/스트릭/레벨 동시성 보호)
         User user = userMapper.findByIdForUpdate(userId);
+        long lockedAt = System.nanoTime();
 
-        // 3. 오늘 총 획득 EXP 확인 (상한 체크)
-        EarnedExp expResult = calculateEarnedExp(userId, today, activityType);
+        // 3. 오늘 총 획득 EXP 확인 (상한 체크, 잠긴 사용자 행 기준)
+        int todayExp = loadTodayExp(user, userId, today);
+        EarnedExp expResult = calculateEarnedExp(todayExp, activityType);
 
-        // 4. 활동 기록 저장 (UNIQUE 제약 위반 시 alreadyParticipated 반환)
+        // 4. 활동 기록 저장 (UNIQUE 제약으로 무시되면 다른 요청/인스턴스가 먼저 기록한 것)
         if (!insertDailyActivity(userId, today, activityType, expResult.earnedExp())) {
+            dailyActivityCounter.markParticipated(userId, today, activityType);
+            recordLockHeld(lockedAt, true);
             return StreakResult.alreadyParticipated(activityType);
         }
 
-        // 5. 오늘 첫 활동이면 스트릭 증가/기록
-        StreakCounts streakCounts =
-                updateStreakIfFirstActivity(user, userId, today, expResult.earnedExp(), activityType);
-
-        // 6. EXP 적용 및 레벨업 체크
-        boolean isLevelUp = applyExpAndLevelUpIfNeeded(userId, user, expResult.earnedExp());
+        // 5. 잠긴 사용자 행 기준으로 스트릭/EXP/레벨 계산 후 한 번에 반영
+        ActivityOutcome outcome = applyActivity(user, userId, today, expResult.earnedExp(),
+                todayExp + expResult.earnedExp(), activityType);
+        dailyActivityCounter.record(userId, today, activityType);
+        applyGoalExpAfterCommit(userId, expResult.earnedExp());
+        recordLockHeld(lockedAt, false);
 
         log.debug("Activity recorded: userId={}, activity={}, exp=+{}, capRemaining={}",
                 userId, activityType, expResult.earnedExp(), expResult.capRemaining());
 
-        if (expResult.earnedExp() > 0) {
-            collectionService.checkAndUpdateCompletionByExp(userId);
-        }
-
         return new StreakResult(
-                streakCounts.currentStreak(),
-                streakCounts.maxStreak(),
+                outcome.currentStreak(),
+                outcome.maxStreak(),
                 expResult.earnedExp(),
-                isLevelUp,
+                outcome.isLevelUp(),
                 false,
                 activityType
         );
     }
 
+    /**
+     * 활동 참여 시 사용자 row lock 보유 시간 통계
+     */
+    public synchronized StreakParticipationStats getParticipationStats() {
+        return new StreakParticipationStats(
+                lockedParticipations,
+                lockedDuplicates,
+                lockedParticipations > 0 ? totalLockHeldNanos / 1_000.0 / lockedParticipations : 0.0,
+                maxLockHeldNanos / 1_000.0
+        );
+    }
+
     /**
      * 마일스톤 보상 수령
      * <p>
@@ -182,12 +207,11 @@ public class StreakService {
 
         // 경험치 적용 및 레벨업 체크 (마일스톤 보상은 일일 상한에 포함되지 않음)
         boolean isLevelUp = applyExpAndLevelUpIfNeeded(userId, user, expReward);
+        applyGoalExpAfterCommit(userId, expReward);
 
         log.info("Milestone reward claimed: userId={}, milestone={}일, exp=+{}",
                 userId, milestoneDays, expReward);
 
-        collectionService.checkAndUpdateCompletionByExp(userId);
-
         return new MilestoneRewardResult(milestoneDays, expReward, isLevelUp, currentStreak);
     }
 
@@ -245,34 +269,51 @@ public class StreakService {
     /**
      * streak_history에 기록 (기존 UI 호환용)
      * <p>
-     * 오늘 첫 활동 시에만 호출됩니다.
+     * 오늘 첫 활동 시에만 호출됩니다. 이미 존재하면 무시합니다.
      */
     private void insertStreakHistory(Long userId, LocalDate today, int expEarned) {
-        try {
-            StreakHistory history = StreakHistory.builder()
-                    .userId(userId)
-                    .streakDate(today)
-                    .expEarned(expEarned)
-                    .build();
-            streakHistoryMapper.insert(history);
-        } catch (DuplicateKeyException e) {
-            // 이미 존재하면 무시 (정상 케이스)
+        StreakHistory history = StreakHistory.builder()
+                .userId(userId)
+                .streakDate(today)
+                .expEarned(expEarned)
+                .build();
+        if (streakHistoryMapper.insertIgnore(history) == 0) {
             log.debug("StreakHistory already exists for userId={}, date={}", userId, today);
         }
     }
 
+    /**
+     * 오늘 누적 활동 EXP (사용자 row lock 구간에서 호출)
+     * <p>
+     * daily_exp는 활동을 기록하는 UPDATE에서만 바뀌므로 기준일이 오늘이면 그대로 사용합니다.
+     * 오늘 참여 기록은 있는데 기준일이 다르면 컬럼 도입 이전에 기록된 활동이므로 daily_activity를 잠금 읽기로 합산합니다.
+     */
+    private int loadTodayExp(User user, Long userId, LocalDate today) {
+        if (today.equals(user.getDailyExpDate())) {
+            return nullToZero(user.getDailyExp());
+        }
+        if (!today.equals(user.getLastStreakDate())) {
+            return 0;
+        }
+        int total = 0;
+        for (DailyActivityMapper.ActivityExp activity
+                : dailyActivityMapper.findActivityExpByUserIdAndDateForUpdate(userId, today)) {
+            total += nullToZero(activity.expEarned());
+        }
+        return total;
+    }
+
     /**
      * 오늘 획득 가능한 EXP 계산 (일일 상한 적용)
      */
-    private EarnedExp calculateEarnedExp(Long userId, LocalDate today, ActivityType activityType) {
-        int todayTotalExp = dailyActivityMapper.sumExpByUserIdAndDate(userId, today);
+    private EarnedExp calculateEarnedExp(int todayTotalExp, ActivityType activityType) {
         int remainingCap = Math.max(0, DAILY_EXP_CAP - todayTotalExp);
         int earnedExp = Math.min(activityType.getBaseExp(), remainingCap);
         return new EarnedExp(earnedExp, remainingCap - earnedExp);
     }
 
     private boolean alreadyParticipatedToday(Long userId, LocalDate today, ActivityType activityType) {
-        return dailyActivityMapper.existsByUserIdAndDateAndType(userId, today, activityType.name());
+        return dailyActivityCounter.hasParticipated(userId, today, activityType);
     }
 
     private boolean insertDailyActivity(
@@ -282,43 +323,54 @@ public class StreakService {
             int earnedExp
     ) {
         DailyActivity activity = DailyActivity.of(userId, today, activityType, earnedExp);
-        try {
-            dailyActivityMapper.insert(activity);
-            return true;
-        } catch (DuplicateKeyException e) {
+        if (dailyActivityMapper.insertIgnore(activity) == 0) {
             log.debug("Duplicate activity detected for userId={}, activity={}", userId, activityType);
             return false;
         }
+        return true;
     }
 
-    private boolean isFirstActivityToday(Long userId, LocalDate today) {
-        return dailyActivityMapper.countByUserIdAndDate(userId, today) == 1;
-    }
-
-    private StreakCounts updateStreakIfFirstActivity(
+    /**
+     * 스트릭/EXP/레벨 일괄 반영
+     * <p>
+     * 잠긴 사용자 행의 마지막 참여일이 오늘이 아니면 오늘 첫 활동으로 보고 스트릭을 갱신합니다.
+     * (첫 활동마다 마지막 참여일을 오늘로 기록하므로 활동 건수 COUNT와 같은 판정)
+     */
+    private ActivityOutcome applyActivity(
             User user,
             Long userId,
             LocalDate today,
             int earnedExp,
+            int dailyExp,
             ActivityType activityType
     ) {
         int currentStreak = nullToZero(user.getStreakCount());
         int maxStreak = nullToZero(user.getMaxStreak());
-
-        if (!isFirstActivityToday(userId, today)) {
-            return new StreakCounts(currentStreak, maxStreak);
+        boolean firstActivityToday = !today.equals(user.getLastStreakDate());
+        if (firstActivityToday) {
+            currentStreak = calculateNewStreakCount(user, today);
+            maxStreak = Math.max(currentStreak, maxStreak);
         }
 
-        int newStreakCount = calculateNewStreakCount(user, today);
-        int newMaxStreak = Math.max(newStreakCount, maxStreak);
-        userMapper.updateStreak(userId, newStreakCount, newMaxStreak, today);
+        int oldLevel = LevelPolicy.normalizeLevel(user.getCurrentLevel());
+        int newLevel = Math.max(oldLevel,
+                LevelPolicy.calculateLevel(LevelPolicy.normalizeExp(user.getCurrentExp()) + earnedExp));
 
-        insertStreakHistory(userId, today, earnedExp);
+        if (firstActivityToday || earnedExp > 0) {
+            userMapper.applyActivity(userId, currentStreak, maxStreak, today, earnedExp, newLevel, dailyExp);
+        }
 
-        log.info("Streak updated: userId={}, streak={}, activity={}",
-                userId, newStreakCount, activityType);
+        if (firstActivityToday) {
+            insertStreakHistory(userId, today, earnedExp);
+            log.info("Streak updated: userId={}, streak={}, activity={}",
+                    userId, currentStreak, activityType);
+        }
 
-        return new StreakCounts(newStreakCount, newMaxStreak);
+        boolean isLevelUp = newLevel > oldLevel;
+        if (isLevelUp) {
+            log.info("Level up: userId={}, {} -> {}", userId, oldLevel, newLevel);
+        }
+        return new ActivityOutcome(currentStreak, maxStreak, isLevelUp);
     }
 
     /**
@@ -347,6 +399,43 @@ public class StreakService {
         return 1;
     }
 
+    /**
+     * 목표 XP 스냅샷 반영 + XP 기준 목표 완료 확인 (커밋 후, 사용자 row lock 해제 이후)
+     * 실패해도 이미 커밋된 활동/EXP에는 영향이 없으며, 완료 여부는 다음 조회/활동 시 다시 확인됩니다.
+     */
+    private void applyGoalExpAfterCommit(Long userId, int earnedExp) {
+        if (earnedExp <= 0) {
+            return;
+        }
+        Runnable apply = () -> {
+            try {
+                collectionService.applyCommittedExp(userId, earnedExp);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply goal exp after commit: userId={}, exp={}", userId, earnedExp, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private synchronized void recordLockHeld(long lockedAt, boolean duplicate) {
+        long elapsedNanos = System.nanoTime() - lockedAt;
+        lockedParticipations++;
+        if (duplicate) {
+            lockedDuplicates++;
+        }
+        totalLockHeldNanos += elapsedNanos;
+        maxLockHeldNanos = Math.max(maxLockHeldNanos, elapsedNanos);
+    }
+
     private boolean applyExpAndLevelUpIfNeeded(Long userId, User user, int expToAdd) {
         if (expToAdd <= 0) {
             return false;
@@ -395,7 +484,7 @@ public class StreakService {
 
     private record EarnedExp(int earnedExp, int capRemaining) {}
 
-    private record StreakCounts(int currentStreak, int maxStreak) {}
+    private record ActivityOutcome(int currentStreak, int maxStreak, boolean isLevelUp) {}
 
     // =========================================================================
     // 결과 레코드 (Immutable DTO)
@@ -0,0 +1,197 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.repository.RevokedTokenMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 액세스 토큰 폐기 목록 (jti → 만료 시각)
+ * <p>
+ * 로그아웃한 토큰의 jti를 revoked_token 테이블에 저장하고 인메모리 맵으로 조회하여,
+ * 인증 필터가 요청마다 DB를 조회하지 않고 폐기 여부를 확인합니다.
+ * <ul>
+ *   <li>Bloom filter가 "없음"이라고 답하면 맵 조회 없이 통과 (폐기되지 않은 대부분의 요청)</li>
+ *   <li>다른 인스턴스의 폐기는 주기적 재적재로 반영, 만료된 항목은 메모리/테이블에서 정리</li>
+ * </ul>
+ * jti가 없는 토큰(이전 버전에서 발급)은 개별 폐기 대상이 아닙니다.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private static final int BLOOM_HASH_COUNT = 3;
+
+    private final RevokedTokenMapper revokedTokenMapper;
+    private final Clock clock;
+    private final boolean bloomEnabled;
+    private final int bloomBits;
+
+    private final Map<String, Long> expiresAtByJti = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationList(RevokedTokenMapper revokedTokenMapper,
+                               Clock clock,
+                               @Value("${auth.revocation.bloom-enabled:true}") boolean bloomEnabled,
+                               @Value("${auth.revocation.bloom-bits:1048576}") int bloomBits) {
+        this.revokedTokenMapper = revokedTokenMapper;
+        this.clock = clock;
+        this.bloomEnabled = bloomEnabled;
+        this.bloomBits = Math.max(Long.SIZE, bloomBits);
+        this.bloomFilter = bloomEnabled ? new BloomFilter(this.bloomBits) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각 (지난 토큰은 기록하지 않음)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        revokedTokenMapper.insertIfAbsent(jti, LocalDateTime.ofInstant(expiresAt, clock.getZone()));
+        add(jti, expiresAt.toEpochMilli());
+        log.info("[Auth] 토큰 폐기: jti={}", jti);
+    }
+
+    /**
+     * 폐기 여부 확인 (DB 조회 없음)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        BloomFilter bloom = bloomFilter;
+        if (bloom != null && !bloom.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = expiresAtByJti.get(jti);
+        return expiresAt != null && expiresAt > clock.millis();
+    }
+
+    /**
+     * DB 기준 재적재 + 만료 항목 정리
+     * 다른 인스턴스에서 폐기한 토큰을 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-delay-ms:30000}",
+            initialDelayString = "${auth.revocation.refresh-delay-ms:30000}")
+    public synchronized void reload() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            BloomFilter nextBloom = bloomEnabled ? new BloomFilter(bloomBits) : null;
+            Map<String, Long> loaded = new ConcurrentHashMap<>();
+            for (RevokedTokenMapper.RevokedToken token : revokedTokenMapper.findActive(now)) {
+                loaded.put(token.jti(), token.expiresAt().atZone(clock.getZone()).toInstant().toEpochMilli());
+            }
+            // 재적재 중 이 인스턴스에서 추가된 폐기도 유지 (만료 전까지)
+            long nowMillis = clock.millis();
+            expiresAtByJti.forEach((jti, expiresAt) -> {
+                if (expiresAt > nowMillis) {
+                    loaded.putIfAbsent(jti, expiresAt);
+                }
+            });
+            if (nextBloom != null) {
+                loaded.keySet().forEach(nextBloom::add);
+                bloomFilter = nextBloom;
+            }
+            expiresAtByJti.putAll(loaded);
+            expiresAtByJti.keySet().retainAll(loaded.keySet());
+            log.debug("[Auth] 폐기 목록 재적재: active={}", loaded.size());
+        } catch (RuntimeException e) {
+            log.warn("[Auth] 폐기 목록 재적재 실패 - 기존 목록 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 만료된 폐기 토큰 테이블 정리
+     */
+    @Scheduled(cron = "${auth.revocation.cleanup-cron:0 40 4 * * *}")
+    public void deleteExpired() {
+        int deleted = revokedTokenMapper.deleteExpired(LocalDateTime.now(clock));
+        if (deleted > 0) {
+            log.info("[Auth] 만료된 폐기 토큰 삭제: {}", deleted);
+        }
+    }
+
+    public int size() {
+        return expiresAtByJti.size();
+    }
+
+    private synchronized void add(String jti, long expiresAtMillis) {
+        // Bloom filter를 먼저 채워야 맵에 들어간 항목이 "없음"으로 판정되지 않음
+        BloomFilter bloom = bloomFilter;
+        if (bloom != null) {
+            bloom.add(jti);
+        }
+        expiresAtByJti.put(jti, expiresAtMillis);
+    }
+
+    /**
+     * 추가 전용 Bloom filter (false negative 없음, 정리는 재적재 시 새로 구성)
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+
+        private BloomFilter(int bitCount) {
+            this.words = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+            this.bitCount = words.length() * Long.SIZE;
+        }
+
+        private void add(String value) {
+            int hash1 = value.hashCode();
+            int hash2 = secondaryHash(value);
+            for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+                int bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                int index = bit >>> 6;
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = words.get(index);
+                } while ((current & mask) == 0 && !words.compareAndSet(index, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(String value) {
+            int hash1 = value.hashCode();
+            int hash2 = secondaryHash(value);
+            for (int i = 0; i < BLOOM_HASH_COUNT; i++) {
+                int bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * String.hashCode와 독립적인 보조 해시 (FNV-1a, 홀수로 보정)
+         */
+        private static int secondaryHash(String value) {
+            int hash = 0x811c9dc5;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x01000193;
+            }
+            return hash | 1;
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class UserService {
     private final UserPreferredAreaMapper userPreferredAreaMapper;
     private final DsrService dsrService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     /**
      * 온보딩 정보 저장
@@ -116,6 +117,7 @@ public class UserService {
 
         // 4. 업데이트된 사용자 정보 조회
         User updatedUser = userMapper.findById(userId);
+        principalCache.invalidate(user.getEmail());
 
         log.info("Profile updated. userId: {}, nickname: {}", userId, request.nickname());
 
@@ -191,6 +193,7 @@ public class UserService {
         if (deletedRows == 0) {
             throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
         }
+        principalCache.invalidate(email);
         
         log.info("Account deleted (soft). userId: {}, email: {}", user.getId(), email);
     }
@@ -0,0 +1,49 @@
+package com.jipjung.project.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 아파트 목록 keyset 페이징 커서
+ * 정렬 키 (deal_date DESC NULLS LAST, apt_seq ASC)의 마지막 위치를 담으며,
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출합니다.
+ *
+ * @param dealDate 마지막 행의 최신 거래일 (거래 없는 아파트면 null)
+ * @param aptSeq   마지막 행의 아파트코드
+ */
+public record ApartmentSearchCursor(LocalDate dealDate, String aptSeq) {
+
+    private static final String DELIMITER = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다";
+
+    /**
+     * 불투명 커서 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = (dealDate != null ? dealDate.toString() : "") + DELIMITER + aptSeq;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static ApartmentSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            if (delimiterIndex < 0 || delimiterIndex == raw.length() - 1) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            String datePart = raw.substring(0, delimiterIndex);
+            LocalDate dealDate = datePart.isEmpty() ? null : LocalDate.parse(datePart);
+            return new ApartmentSearchCursor(dealDate, raw.substring(delimiterIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.jipjung.project.service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * MOLIT 백필 진행 상황 DTO
+ *
+ * @param status         IDLE, RUNNING, COMPLETED
+ * @param fromYmd        시작 거래년월
+ * @param toYmd          종료 거래년월
+ * @param totalTasks     계획된 지역/년월 작업 수 (재개로 건너뛴 작업 포함)
+ * @param resumedTasks   이전 완료 이력으로 건너뛴 작업 수
+ * @param completedTasks 이번 실행에서 완료된 작업 수
+ * @param failedTasks    이번 실행에서 실패한 작업 수
+ * @param syncedDeals    이번 실행에서 신규 저장된 거래 수
+ * @param tasksPerMinute 분당 처리 작업 수
+ * @param dealsPerSecond 초당 신규 저장 거래 수
+ * @param startedAt      시작 시간
+ * @param finishedAt     종료 시간 (진행 중이면 null)
+ */
+public record BackfillProgress(
+        String status,
+        String fromYmd,
+        String toYmd,
+        int totalTasks,
+        int resumedTasks,
+        int completedTasks,
+        int failedTasks,
+        long syncedDeals,
+        double tasksPerMinute,
+        double dealsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public static final String STATUS_IDLE = "IDLE";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    /**
+     * 실행 이력이 없는 상태
+     */
+    public static BackfillProgress idle() {
+        return new BackfillProgress(STATUS_IDLE, null, null, 0, 0, 0, 0, 0, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jipjung.project.service.dto;
+
+/**
+ * 아파트 상세 응답 캐시 통계 DTO (애플리케이션 기동 이후 누적)
+ *
+ * @param entries       캐시된 아파트 수
+ * @param weight        현재 가중치 합 (아파트 1 + 실거래 건수)
+ * @param maxWeight     최대 가중치
+ * @param hits          캐시 적중 수
+ * @param misses        캐시 미스 수
+ * @param hitRatio      적중률 (0~1)
+ * @param evictions     용량 초과로 제거된 수
+ * @param invalidations 동기화/좌표 갱신으로 무효화된 수
+ */
+public record DetailCacheStats(
+        int entries,
+        long weight,
+        long maxWeight,
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        long invalidations
+) {
+}
@@ -0,0 +1,15 @@
+package com.jipjung.project.service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아파트 키워드 검색 색인 후보
+ * 색인 스냅샷 이후 다른 인스턴스에서 추가/변경된 아파트는 색인에 없으므로,
+ * changedSince 이후 변경된 행은 기존 LIKE 조건으로 함께 조회합니다.
+ *
+ * @param aptSeqs      색인이 찾은 후보 apt_seq (비어 있을 수 있음)
+ * @param changedSince 색인 스냅샷 기준 DB 시각 (이 시각 이후 updated_at이 바뀐 아파트는 LIKE로 확인)
+ */
+public record KeywordCandidates(List<String> aptSeqs, LocalDateTime changedSince) {
+}
@@ -0,0 +1,53 @@
+package com.jipjung.project.service.dto;
+
+/**
+ * 지도 화면 영역 (bbox)
+ * 요청 파라미터는 GeoJSON 순서인 {@code minLng,minLat,maxLng,maxLat} 문자열로 받습니다.
+ *
+ * @param minLat 남서쪽 위도
+ * @param minLng 남서쪽 경도
+ * @param maxLat 북동쪽 위도
+ * @param maxLng 북동쪽 경도
+ */
+public record MapBoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+
+    private static final String INVALID_BBOX_MESSAGE =
+            "bbox는 minLng,minLat,maxLng,maxLat 형식이어야 합니다";
+
+    /**
+     * bbox 문자열 파싱
+     *
+     * @throws IllegalArgumentException 형식이나 좌표 범위가 올바르지 않은 경우
+     */
+    public static MapBoundingBox parse(String bbox) {
+        if (bbox == null || bbox.isBlank()) {
+            throw new IllegalArgumentException(INVALID_BBOX_MESSAGE);
+        }
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException(INVALID_BBOX_MESSAGE);
+        }
+        try {
+            double minLng = Double.parseDouble(parts[0].trim());
+            double minLat = Double.parseDouble(parts[1].trim());
+            double maxLng = Double.parseDouble(parts[2].trim());
+            double maxLat = Double.parseDouble(parts[3].trim());
+            if (!Double.isFinite(minLat) || !Double.isFinite(minLng)
+                    || !Double.isFinite(maxLat) || !Double.isFinite(maxLng)) {
+                throw new IllegalArgumentException(INVALID_BBOX_MESSAGE);
+            }
+            if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180
+                    || minLat > maxLat || minLng > maxLng) {
+                throw new IllegalArgumentException(INVALID_BBOX_MESSAGE);
+            }
+            return new MapBoundingBox(minLat, minLng, maxLat, maxLng);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_BBOX_MESSAGE, e);
+        }
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLat && latitude <= maxLat
+                && longitude >= minLng && longitude <= maxLng;
+    }
+}
@@ -0,0 +1,31 @@
+package com.jipjung.project.service.dto;
+
+/**
+ * JWT 인증 필터 principal 캐시 통계 DTO (애플리케이션 기동 이후 누적)
+ *
+ * @param entries         캐시된 사용자 수
+ * @param maxEntries      최대 사용자 수
+ * @param ttlSeconds      항목 유효 시간 (초)
+ * @param hits            캐시 적중 수
+ * @param misses          캐시 미스 수 (사용자 조회 발생)
+ * @param hitRatio        적중률 (0~1)
+ * @param evictions       용량 초과로 제거된 수
+ * @param invalidations   프로필 수정/탈퇴/로그아웃으로 무효화된 수
+ * @param authentications 토큰 인증 처리 수
+ * @param avgAuthMicros   인증 필터 평균 처리 시간 (μs)
+ * @param maxAuthMicros   인증 필터 최대 처리 시간 (μs)
+ */
+public record PrincipalCacheStats(
+        int entries,
+        int maxEntries,
+        long ttlSeconds,
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        long invalidations,
+        long authentications,
+        double avgAuthMicros,
+        double maxAuthMicros
+) {
+}
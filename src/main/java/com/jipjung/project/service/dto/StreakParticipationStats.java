@@ -0,0 +1,17 @@
+package com.jipjung.project.service.dto;
+
+/**
+ * 활동 참여(스트릭/EXP) 사용자 row lock 보유 시간 통계 DTO (애플리케이션 기동 이후 누적)
+ *
+ * @param lockedParticipations 사용자 row lock을 잡은 참여 처리 수
+ * @param duplicates           잠금 후 활동 INSERT IGNORE가 무시된 수 (동시 중복 요청)
+ * @param avgLockHeldMicros    잠금 획득부터 처리 종료까지 평균 시간 (μs, 커밋 제외)
+ * @param maxLockHeldMicros    잠금 획득부터 처리 종료까지 최대 시간 (μs, 커밋 제외)
+ */
+public record StreakParticipationStats(
+        long lockedParticipations,
+        long duplicates,
+        double avgLockHeldMicros,
+        double maxLockHeldMicros
+) {
+}
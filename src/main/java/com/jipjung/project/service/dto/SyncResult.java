@@ -1,5 +1,7 @@
 package com.jipjung.project.service.dto;
 
+import java.util.List;
+
 /**
  * 동기화 결과 DTO
  */
@@ -8,26 +10,62 @@ public record SyncResult(
         String dealYmd,
         int syncedCount,
         int skippedCount,
-        String message
+        String message,
+        List<ChunkResult> chunks
 ) {
+    private static final String ERROR_PREFIX = "오류: ";
+
     /**
      * 성공 결과 생성
      */
     public static SyncResult success(String lawdCd, String dealYmd, int syncedCount, int skippedCount) {
-        return new SyncResult(lawdCd, dealYmd, syncedCount, skippedCount, "동기화 완료");
+        return success(lawdCd, dealYmd, syncedCount, skippedCount, List.of());
+    }
+
+    /**
+     * 성공 결과 생성 (청크별 저장 결과 포함)
+     */
+    public static SyncResult success(String lawdCd, String dealYmd, int syncedCount, int skippedCount,
+                                     List<ChunkResult> chunks) {
+        return new SyncResult(lawdCd, dealYmd, syncedCount, skippedCount, "동기화 완료", List.copyOf(chunks));
     }
 
     /**
      * 스킵 결과 생성 (이미 동기화됨)
      */
     public static SyncResult skipped(String lawdCd, String dealYmd, String reason) {
-        return new SyncResult(lawdCd, dealYmd, 0, 0, reason);
+        return new SyncResult(lawdCd, dealYmd, 0, 0, reason, List.of());
     }
 
     /**
      * 에러 결과 생성
      */
     public static SyncResult error(String lawdCd, String dealYmd, String errorMessage) {
-        return new SyncResult(lawdCd, dealYmd, 0, 0, "오류: " + errorMessage);
+        return new SyncResult(lawdCd, dealYmd, 0, 0, ERROR_PREFIX + errorMessage, List.of());
+    }
+
+    /**
+     * 오류 결과 여부
+     */
+    public boolean isError() {
+        return message != null && message.startsWith(ERROR_PREFIX);
+    }
+
+    /**
+     * 청크 단위 저장 결과
+     *
+     * @param index        청크 순번 (0부터)
+     * @param size         청크에 포함된 거래 수
+     * @param syncedCount  신규 저장된 거래 수
+     * @param skippedCount 중복/실패로 스킵된 거래 수
+     * @param batched      일괄 저장 성공 여부 (false면 개별 저장으로 재시도됨)
+     */
+    public record ChunkResult(
+            int index,
+            int size,
+            int syncedCount,
+            int skippedCount,
+            boolean batched
+    ) {
     }
 }
@@ -0,0 +1,21 @@
+package com.jipjung.project.service.dto;
+
+/**
+ * Fallback 워밍 통계 DTO (애플리케이션 기동 이후 누적)
+ *
+ * @param requested 워밍 요청 수
+ * @param started   실제로 워커 풀에 제출된 동기화 수
+ * @param coalesced 진행 중인 동일 지역/년월 동기화에 합류한 요청 수
+ * @param rejected  워커 풀 큐가 가득 차 거절된 요청 수
+ * @param failed    예외로 종료된 동기화 수
+ * @param inFlight  현재 진행 중인 지역/년월 수
+ */
+public record WarmupStats(
+        long requested,
+        long started,
+        long coalesced,
+        long rejected,
+        long failed,
+        int inFlight
+) {
+}
@@ -0,0 +1,14 @@
+package com.jipjung.project.service.event;
+
+import java.time.LocalDate;
+
+/**
+ * 대시보드 조회 이벤트
+ * 조회 경로에서 분리된 부수 효과(스트릭 참여, XP 완료 보정, DSR 캐시 무효화)를 비동기로 처리하기 위해 발행됩니다.
+ *
+ * @param userId        사용자 ID
+ * @param viewedDate    조회일 (KST)
+ * @param staleDsrCache PRO 이력 없이 남아 있어 무효화가 필요한 DSR 캐시 여부
+ */
+public record DashboardViewedEvent(Long userId, LocalDate viewedDate, boolean staleDsrCache) {
+}
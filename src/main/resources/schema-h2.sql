@@ -75,7 +75,8 @@ CREATE TABLE apartment (
     INDEX idx_apt_nm (apt_nm),
     INDEX idx_dong_code (dong_code),
     INDEX idx_location (latitude, longitude),
-    INDEX idx_build_year (build_year)
+    INDEX idx_build_year (build_year),
+    INDEX idx_apartment_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='아파트 기본정보 테이블';
 
@@ -416,3 +417,117 @@ CREATE INDEX IF NOT EXISTS idx_daily_activity_user_date ON daily_activity(user_i
 -- ============================================================================
 
 
+-- ============================================================================
+-- 9. Apartment Latest Deal (Phase: Search Optimization)
+-- ============================================================================
+
+-- 아파트별 최신 실거래 1건 projection (목록 검색 조인용, 동기화 시 증분 갱신)
+CREATE TABLE IF NOT EXISTS apartment_latest_deal (
+    apt_seq VARCHAR(20) PRIMARY KEY,
+    deal_no BIGINT NOT NULL,
+    deal_date DATE,
+    deal_amount_num BIGINT,
+    exclu_use_ar DECIMAL(7,2),
+    floor VARCHAR(3),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (apt_seq) REFERENCES apartment(apt_seq) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_latest_deal_date_seq ON apartment_latest_deal(deal_date DESC, apt_seq);
+
+
+-- ============================================================================
+-- 10. MOLIT Sync History (Phase: Backfill)
+-- ============================================================================
+
+-- MOLIT API 호출 이력 (중복 호출 방지 + 백필 재개 기준)
+CREATE TABLE IF NOT EXISTS molit_sync_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    lawd_cd VARCHAR(5) NOT NULL,
+    deal_ymd VARCHAR(6) NOT NULL,
+    synced_count INT DEFAULT 0,
+    status VARCHAR(10) NOT NULL DEFAULT 'DONE',
+    error_message VARCHAR(500),
+    synced_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_lawd_ymd UNIQUE (lawd_cd, deal_ymd)
+);
+CREATE INDEX IF NOT EXISTS idx_sync_status_ymd ON molit_sync_history(status, deal_ymd);
+
+
+-- ============================================================================
+-- 11. Geocode Cache (Phase: Geocoding Optimization)
+-- ============================================================================
+
+-- 정규화 주소 → Kakao geocoding 결과 캐시 (미발견 결과도 짧은 TTL로 저장)
+CREATE TABLE IF NOT EXISTS geocode_cache (
+    address_key VARCHAR(255) PRIMARY KEY,
+    found BOOLEAN NOT NULL,
+    latitude DECIMAL(16, 13),
+    longitude DECIMAL(16, 13),
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_geocode_cache_expires ON geocode_cache(expires_at);
+
+-- ============================================================================
+-- 12. Geocode Queue (Phase: Geocoding Optimization)
+-- ============================================================================
+
+-- 동기화 중 적재된 좌표 보완 대상 (별도 스케줄 단계에서 Kakao geocoding 후 삭제)
+CREATE TABLE IF NOT EXISTS geocode_queue (
+    apt_seq VARCHAR(20) PRIMARY KEY,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    enqueued_at TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_geocode_queue_next_attempt ON geocode_queue(next_attempt_at);
+
+-- ============================================================================
+-- 13. Dream Home EXP Snapshot (Phase: Goal Progress Optimization)
+-- ============================================================================
+
+-- 드림홈별 누적 목표 XP (XP 이벤트 기록 시 증분 갱신, 여정 상세 조회만 전체 재생)
+CREATE TABLE IF NOT EXISTS dream_home_exp_snapshot (
+    dream_home_id BIGINT PRIMARY KEY,
+    total_exp INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (dream_home_id) REFERENCES dream_home(dream_home_id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- 14. Region Price Stats (Phase: Dashboard Optimization)
+-- ============================================================================
+
+-- 시군구/거래년월별 실거래가 통계 (동기화 시 해당 지역/년월만 증분 갱신, 금액 단위: 만원)
+CREATE TABLE IF NOT EXISTS region_price_stats (
+    sgg_cd VARCHAR(5) NOT NULL,
+    deal_ym CHAR(6) NOT NULL,
+    deal_count INT NOT NULL,
+    avg_amount BIGINT NOT NULL,
+    p25_amount BIGINT NOT NULL,
+    median_amount BIGINT NOT NULL,
+    p75_amount BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (sgg_cd, deal_ym)
+);
+
+-- ============================================================================
+-- 15. Revoked Token (Phase: Auth)
+-- ============================================================================
+
+-- 로그아웃 등으로 폐기된 액세스 토큰 (jti 기준, 재시작 시 인메모리 폐기 목록 복구용, 만료 후 정리)
+CREATE TABLE IF NOT EXISTS revoked_token (
+    jti VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires ON revoked_token(expires_at);
+
+-- ============================================================================
+-- 16. Daily Activity EXP (Phase: Streak Concurrency)
+-- ============================================================================
+
+-- 오늘 활동 EXP 합계 (daily_activity 기록과 같은 UPDATE로 갱신, 사용자 row lock 아래 일일 상한 판정 기준)
+ALTER TABLE `user` ADD COLUMN IF NOT EXISTS daily_exp INT DEFAULT 0;
+ALTER TABLE `user` ADD COLUMN IF NOT EXISTS daily_exp_date DATE NULL;
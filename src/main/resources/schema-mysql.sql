@@ -86,7 +86,8 @@ CREATE TABLE apartment (
     INDEX idx_apt_nm (apt_nm),
     INDEX idx_dong_code (dong_code),
     INDEX idx_location (latitude, longitude),
-    INDEX idx_build_year (build_year)
+    INDEX idx_build_year (build_year),
+    INDEX idx_apartment_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='아파트 기본정보 테이블';
 
@@ -449,9 +450,132 @@ CREATE TABLE molit_sync_history (
     lawd_cd VARCHAR(5) NOT NULL COMMENT 'ڵ  5ڸ',
     deal_ymd VARCHAR(6) NOT NULL COMMENT 'ŷ (YYYYMM)',
     synced_count INT DEFAULT 0 COMMENT 'ȭ Ǽ',
+    status VARCHAR(10) NOT NULL DEFAULT 'DONE' COMMENT '동기화 상태 (DONE, FAILED)',
+    error_message VARCHAR(500) COMMENT '실패 사유',
     synced_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT 'ȭ ð',
     
     UNIQUE KEY uk_lawd_ymd (lawd_cd, deal_ymd),
-    INDEX idx_synced_at (synced_at)
+    INDEX idx_synced_at (synced_at),
+    INDEX idx_sync_status_ymd (status, deal_ymd)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='MOLIT API ȭ ̷ ̺';
+
+
+-- ============================================================================
+-- 9. Apartment Latest Deal (Phase: Search Optimization)
+-- ============================================================================
+
+-- 아파트별 최신 실거래 1건 projection (목록 검색 조인용, 동기화 시 증분 갱신)
+DROP TABLE IF EXISTS apartment_latest_deal;
+
+CREATE TABLE apartment_latest_deal (
+    apt_seq VARCHAR(20) PRIMARY KEY COMMENT '아파트코드',
+    deal_no BIGINT NOT NULL COMMENT '최신 거래번호',
+    deal_date DATE COMMENT '거래일자',
+    deal_amount_num BIGINT COMMENT '거래금액(숫자)',
+    exclu_use_ar DECIMAL(7,2) COMMENT '전용면적(㎡)',
+    floor VARCHAR(3) COMMENT '층',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (apt_seq) REFERENCES apartment(apt_seq) ON DELETE CASCADE,
+    INDEX idx_latest_deal_date_seq (deal_date DESC, apt_seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='아파트별 최신 실거래 테이블';
+
+
+-- ============================================================================
+-- 10. Geocode Cache (Phase: Geocoding Optimization)
+-- ============================================================================
+
+-- 정규화 주소 → Kakao geocoding 결과 캐시 (미발견 결과도 짧은 TTL로 저장)
+DROP TABLE IF EXISTS geocode_cache;
+
+CREATE TABLE geocode_cache (
+    address_key VARCHAR(255) PRIMARY KEY COMMENT '정규화된 주소 키',
+    found BOOLEAN NOT NULL COMMENT '좌표 발견 여부',
+    latitude DECIMAL(16, 13) COMMENT '위도',
+    longitude DECIMAL(16, 13) COMMENT '경도',
+    expires_at TIMESTAMP NOT NULL COMMENT '만료 시간',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_geocode_cache_expires (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='주소 geocoding 결과 캐시 테이블';
+
+-- ============================================================================
+-- 11. Geocode Queue (Phase: Geocoding Optimization)
+-- ============================================================================
+
+-- 동기화 중 적재된 좌표 보완 대상 (별도 스케줄 단계에서 Kakao geocoding 후 삭제)
+DROP TABLE IF EXISTS geocode_queue;
+
+CREATE TABLE geocode_queue (
+    apt_seq VARCHAR(20) PRIMARY KEY COMMENT '아파트코드',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '실패한 시도 횟수',
+    next_attempt_at TIMESTAMP NOT NULL COMMENT '다음 처리 가능 시간',
+    enqueued_at TIMESTAMP NOT NULL COMMENT '적재 시간',
+
+    INDEX idx_geocode_queue_next_attempt (next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='좌표 보완 대기열 테이블';
+
+-- ============================================================================
+-- 12. Dream Home EXP Snapshot (Phase: Goal Progress Optimization)
+-- ============================================================================
+
+-- 드림홈별 누적 목표 XP (XP 이벤트 기록 시 증분 갱신, 여정 상세 조회만 전체 재생)
+DROP TABLE IF EXISTS dream_home_exp_snapshot;
+
+CREATE TABLE dream_home_exp_snapshot (
+    dream_home_id BIGINT PRIMARY KEY COMMENT '드림홈 ID',
+    total_exp INT NOT NULL DEFAULT 0 COMMENT '여정 누적 XP (0 미만으로 내려가지 않음)',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (dream_home_id) REFERENCES dream_home(dream_home_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='드림홈 목표 XP 스냅샷 테이블';
+
+-- ============================================================================
+-- 13. Region Price Stats (Phase: Dashboard Optimization)
+-- ============================================================================
+
+-- 시군구/거래년월별 실거래가 통계 (동기화 시 해당 지역/년월만 증분 갱신, 금액 단위: 만원)
+DROP TABLE IF EXISTS region_price_stats;
+
+CREATE TABLE region_price_stats (
+    sgg_cd VARCHAR(5) NOT NULL COMMENT '시군구코드',
+    deal_ym CHAR(6) NOT NULL COMMENT '거래년월 (YYYYMM)',
+    deal_count INT NOT NULL COMMENT '거래 건수',
+    avg_amount BIGINT NOT NULL COMMENT '평균 거래금액(만원)',
+    p25_amount BIGINT NOT NULL COMMENT '하위 25% 거래금액(만원)',
+    median_amount BIGINT NOT NULL COMMENT '중위 거래금액(만원)',
+    p75_amount BIGINT NOT NULL COMMENT '상위 25% 거래금액(만원)',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (sgg_cd, deal_ym)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='시군구/월별 실거래가 통계 테이블';
+
+-- ============================================================================
+-- 14. Revoked Token (Phase: Auth)
+-- ============================================================================
+
+-- 로그아웃 등으로 폐기된 액세스 토큰 (jti 기준, 재시작 시 인메모리 폐기 목록 복구용, 만료 후 정리)
+DROP TABLE IF EXISTS revoked_token;
+
+CREATE TABLE revoked_token (
+    jti VARCHAR(36) PRIMARY KEY COMMENT '토큰 ID (jti)',
+    expires_at DATETIME NOT NULL COMMENT '토큰 만료 시각',
+    revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '폐기 시각',
+
+    INDEX idx_revoked_token_expires (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='폐기 토큰 테이블';
+
+-- ============================================================================
+-- 15. Daily Activity EXP (Phase: Streak Concurrency)
+-- ============================================================================
+
+-- 오늘 활동 EXP 합계 (daily_activity 기록과 같은 UPDATE로 갱신, 사용자 row lock 아래 일일 상한 판정 기준)
+ALTER TABLE `user` ADD COLUMN daily_exp INT DEFAULT 0 COMMENT 'daily_exp_date의 활동 EXP 합계';
+ALTER TABLE `user` ADD COLUMN daily_exp_date DATE NULL COMMENT '일일 활동 EXP 기준일 (KST)';
@@ -0,0 +1,229 @@
+package com.jipjung.project.benchmark;
+
+import com.jipjung.project.repository.DailyActivityMapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여정 이벤트 row → 이벤트 변환 벤치마크 (Map 결과 vs 타입 지정 record 결과)
+ * <p>
+ * 같은 H2(MySQL 모드) 테이블/쿼리를 두 방식으로 매핑해 행 변환 비용과 할당량을 비교합니다.
+ * <ul>
+ *   <li>{@code mapRows}: 기존 방식 - resultType=map 행마다 HashMap + getLong/getInt/getString/getLocalDateTime</li>
+ *   <li>{@code typedRows}: 현재 방식 - DailyActivityMapper.xml의 ExpEventResultMap(constructor) 그대로 사용</li>
+ * </ul>
+ * 쿼리 실행 비용은 양쪽이 같으므로 차이는 결과 매핑/변환 비용입니다.
+ * 할당량은 GC 프로파일러의 {@code gc.alloc.rate.norm}(B/op)으로 확인합니다.
+ * <pre>
+ * ./mvnw -q test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath com.jipjung.project.benchmark.JourneyEventMappingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JourneyEventMappingBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int ROWS = 365;
+    private static final String MAPPER_XML = "mapper/DailyActivityMapper.xml";
+    private static final String[] ACTIVITY_TYPES = {"DASHBOARD", "AI_ANALYSIS", "AI_JUDGMENT", "SAVINGS"};
+
+    private final LocalDateTime startAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private final LocalDateTime endAt = startAt.plusDays(ROWS);
+
+    private SqlSession session;
+    private DailyActivityMapper typedMapper;
+    private LegacyDailyActivityMapper legacyMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UnpooledDataSource dataSource = new UnpooledDataSource("org.h2.Driver",
+                "jdbc:h2:mem:journey-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        createRows(dataSource);
+
+        Configuration configuration =
+                new Configuration(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT); // 같은 세션 반복 조회가 1차 캐시에 걸리지 않도록
+        configuration.getTypeAliasRegistry().registerAliases("com.jipjung.project.domain");
+        try (InputStream xml = Resources.getResourceAsStream(MAPPER_XML)) {
+            new XMLMapperBuilder(xml, configuration, MAPPER_XML, configuration.getSqlFragments()).parse();
+        }
+        configuration.addMapper(LegacyDailyActivityMapper.class);
+
+        session = new SqlSessionFactoryBuilder().build(configuration).openSession();
+        typedMapper = session.getMapper(DailyActivityMapper.class);
+        legacyMapper = session.getMapper(LegacyDailyActivityMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+    }
+
+    @Benchmark
+    public List<Event> mapRows() {
+        List<Map<String, Object>> rows = legacyMapper.findExpEventsByUserIdAndDateRange(USER_ID, startAt, endAt);
+        List<Event> events = new ArrayList<>(rows.size());
+        for (Map<String, Object> raw : rows) {
+            String activityType = getString(raw, "activity_type");
+            events.add(new Event(
+                    getLong(raw, "activity_id"),
+                    "STREAK_" + activityType,
+                    getLocalDateTime(raw, "created_at"),
+                    nullToZero(getInt(raw, "exp_earned"))
+            ));
+        }
+        return events;
+    }
+
+    @Benchmark
+    public List<Event> typedRows() {
+        List<DailyActivityMapper.ExpEvent> rows =
+                typedMapper.findExpEventsByUserIdAndDateRange(USER_ID, startAt, endAt);
+        List<Event> events = new ArrayList<>(rows.size());
+        for (DailyActivityMapper.ExpEvent row : rows) {
+            events.add(new Event(
+                    row.activityId(),
+                    "STREAK_" + row.activityType(),
+                    row.createdAt(),
+                    nullToZero(row.expEarned())
+            ));
+        }
+        return events;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JourneyEventMappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    private void createRows(UnpooledDataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS daily_activity");
+                statement.execute("""
+                        CREATE TABLE daily_activity (
+                            activity_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            user_id BIGINT NOT NULL,
+                            activity_date DATE NOT NULL,
+                            activity_type VARCHAR(30) NOT NULL,
+                            exp_earned INT DEFAULT 0,
+                            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                        )""");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO daily_activity (user_id, activity_date, activity_type, exp_earned, created_at) "
+                            + "VALUES (?, ?, ?, ?, ?)")) {
+                for (int day = 0; day < ROWS; day++) {
+                    LocalDateTime createdAt = startAt.plusDays(day).plusHours(9);
+                    insert.setLong(1, USER_ID);
+                    insert.setObject(2, createdAt.toLocalDate());
+                    insert.setString(3, ACTIVITY_TYPES[day % ACTIVITY_TYPES.length]);
+                    insert.setInt(4, 10);
+                    insert.setTimestamp(5, Timestamp.valueOf(createdAt));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    // 변경 전 CollectionService의 Map 헬퍼
+    private static Long getLong(Map<String, Object> map, String key) {
+        Object val = map.get(key);
+        if (val == null) return null;
+        if (val instanceof Long l) return l;
+        if (val instanceof Number n) return n.longValue();
+        return null;
+    }
+
+    private static Integer getInt(Map<String, Object> map, String key) {
+        Object val = map.get(key);
+        if (val == null) return null;
+        if (val instanceof Integer i) return i;
+        if (val instanceof Number n) return n.intValue();
+        return null;
+    }
+
+    private static String getString(Map<String, Object> map, String key) {
+        Object val = map.get(key);
+        return val != null ? val.toString() : null;
+    }
+
+    private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
+        Object val = map.get(key);
+        if (val instanceof LocalDateTime ldt) return ldt;
+        if (val instanceof Timestamp ts) return ts.toLocalDateTime();
+        return null;
+    }
+
+    private static int nullToZero(Integer val) {
+        return val != null ? val : 0;
+    }
+
+    public record Event(Long eventId, String eventType, LocalDateTime date, int expChange) {}
+
+    /**
+     * 변경 전 쿼리 (resultType=map)
+     */
+    public interface LegacyDailyActivityMapper {
+
+        @Select("""
+            SELECT activity_id, activity_type, exp_earned, created_at
+            FROM daily_activity
+            WHERE user_id = #{userId}
+              AND created_at BETWEEN #{startAt} AND #{endAt}
+            ORDER BY created_at ASC
+        """)
+        List<Map<String, Object>> findExpEventsByUserIdAndDateRange(
+                @Param("userId") Long userId,
+                @Param("startAt") LocalDateTime startAt,
+                @Param("endAt") LocalDateTime endAt
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.jipjung.project.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jipjung.project.config.jwt.JwtProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider.verifyToken 벤치마크 (캐시 없는 HMAC 검증 vs 검증 결과 캐시 적중)
+ * <p>
+ * 같은 토큰 집합(사용자 수 = tokens)을 여러 스레드가 무작위로 검증합니다.
+ * <ul>
+ *   <li>{@code cold}: jwt.verified-cache.max-entries=0 - 요청마다 디코딩 + HMAC512 서명 검증</li>
+ *   <li>{@code cached}: 캐시 적중 - SHA-256 다이제스트 계산 + ConcurrentHashMap 조회 + 만료 확인</li>
+ * </ul>
+ * <pre>
+ * ./mvnw -q test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath com.jipjung.project.benchmark.JwtVerificationBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "MyAccessSecretKey1234567890123456789012";
+    private static final long EXPIRATION_MILLIS = 3_600_000L;
+
+    @Param({"1", "1000"})
+    private int tokens;
+
+    private JwtProvider coldProvider;
+    private JwtProvider cachedProvider;
+    private String[] accessTokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coldProvider = provider(0);
+        cachedProvider = provider(10_000);
+        accessTokens = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            accessTokens[i] = cachedProvider.createAccessToken("user" + i + "@jipjung.com");
+            cachedProvider.verifyToken(accessTokens[i]);
+        }
+    }
+
+    @Benchmark
+    public DecodedJWT cold() {
+        return coldProvider.verifyToken(nextToken());
+    }
+
+    @Benchmark
+    public DecodedJWT cached() {
+        return cachedProvider.verifyToken(nextToken());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    private String nextToken() {
+        return accessTokens[ThreadLocalRandom.current().nextInt(accessTokens.length)];
+    }
+
+    private static JwtProvider provider(int verifiedCacheMaxEntries) {
+        JwtProvider provider = new JwtProvider();
+        ReflectionTestUtils.setField(provider, "secret", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", EXPIRATION_MILLIS);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxEntries", verifiedCacheMaxEntries);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
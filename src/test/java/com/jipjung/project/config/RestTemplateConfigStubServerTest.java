@@ -0,0 +1,150 @@
+package com.jipjung.project.config;
+
+import com.jipjung.project.external.http.OutboundHttpMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * upstream별 RestTemplate을 로컬 stub 서버에 연결해 timeout/동시 요청 한도/지표를 검증
+ */
+class RestTemplateConfigStubServerTest {
+
+    private static final String HOST = "127.0.0.1";
+    private static final long SLOW_RESPONSE_MS = 1_500;
+
+    private final RestTemplateConfig config = new RestTemplateConfig();
+    private final OutboundHttpMetrics metrics = new OutboundHttpMetrics();
+    private final CountDownLatch slowRequestStarted = new CountDownLatch(1);
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, 200, "ok"));
+        server.createContext("/error", exchange -> respond(exchange, 500, "fail"));
+        server.createContext("/slow", exchange -> {
+            slowRequestStarted.countDown();
+            sleep(SLOW_RESPONSE_MS);
+            respond(exchange, 200, "late");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://" + HOST + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("MOLIT/Kakao 클라이언트 모두 stub 서버 응답을 받고 호스트별 지표에 기록된다")
+    void bothClientsRecordMetrics() {
+        RestTemplate molit = config.molitRestTemplate(metrics, 8, 1_000, 1_000, HttpClient.Version.HTTP_1_1);
+        RestTemplate kakao = config.kakaoRestTemplate(metrics, 4, 1_000, 1_000, HttpClient.Version.HTTP_1_1);
+
+        assertThat(molit.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+        assertThat(kakao.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+
+        OutboundHttpMetrics.HostMetrics hostMetrics = hostMetrics();
+        assertThat(hostMetrics.requests()).isEqualTo(2);
+        assertThat(hostMetrics.errors()).isZero();
+        assertThat(hostMetrics.inFlight()).isZero();
+        assertThat(hostMetrics.latencyHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 오류로 기록된다")
+    void errorResponseIsCounted() {
+        RestTemplate molit = config.molitRestTemplate(metrics, 8, 1_000, 1_000, HttpClient.Version.HTTP_1_1);
+
+        assertThatThrownBy(() -> molit.getForObject(baseUrl + "/error", String.class))
+                .isInstanceOf(RuntimeException.class);
+
+        OutboundHttpMetrics.HostMetrics hostMetrics = hostMetrics();
+        assertThat(hostMetrics.requests()).isEqualTo(1);
+        assertThat(hostMetrics.errors()).isEqualTo(1);
+        assertThat(hostMetrics.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("read timeout을 넘는 느린 응답은 응답 전에 실패하고 오류로 기록된다")
+    void readTimeoutFailsFast() {
+        RestTemplate kakao = config.kakaoRestTemplate(metrics, 4, 1_000, 300, HttpClient.Version.HTTP_1_1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> kakao.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMs).isLessThan(SLOW_RESPONSE_MS);
+        OutboundHttpMetrics.HostMetrics hostMetrics = hostMetrics();
+        assertThat(hostMetrics.errors()).isEqualTo(1);
+        assertThat(hostMetrics.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청 한도를 넘으면 connect timeout 동안만 대기한 뒤 거절된다")
+    void rejectsWhenPoolIsExhausted() throws Exception {
+        RestTemplate molit = config.molitRestTemplate(metrics, 1, 200, 5_000, HttpClient.Version.HTTP_1_1);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(
+                () -> molit.getForObject(baseUrl + "/slow", String.class));
+        assertThat(slowRequestStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> molit.getForObject(baseUrl + "/fast", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+
+        OutboundHttpMetrics.HostMetrics hostMetrics = hostMetrics();
+        assertThat(hostMetrics.rejected()).isEqualTo(1);
+        assertThat(hostMetrics.requests()).isEqualTo(1);
+        assertThat(hostMetrics.inFlight()).isZero();
+    }
+
+    private OutboundHttpMetrics.HostMetrics hostMetrics() {
+        return metrics.snapshot().stream()
+                .filter(hostMetrics -> hostMetrics.host().equals(HOST))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        } catch (IOException e) {
+            // 클라이언트가 timeout으로 먼저 끊은 경우
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
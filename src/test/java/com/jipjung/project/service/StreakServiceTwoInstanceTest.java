@@ -0,0 +1,100 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.ActivityType;
+import com.jipjung.project.domain.User;
+import com.jipjung.project.repository.DailyActivityMapper;
+import com.jipjung.project.repository.StreakHistoryMapper;
+import com.jipjung.project.repository.StreakMilestoneRewardMapper;
+import com.jipjung.project.repository.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인스턴스 두 개가 같은 사용자의 활동을 번갈아 기록할 때 일일 EXP 합계가 어긋나지 않는지 검증
+ * <p>
+ * 인스턴스 A는 컨텍스트의 StreakService, 인스턴스 B는 별도 DailyActivityCounter를 가진 StreakService입니다.
+ */
+@SpringBootTest(properties = {
+        "spring.ai.vertex.ai.gemini.project-id=dummy",
+        "spring.sql.init.encoding=UTF-8"
+})
+@ActiveProfiles("h2")
+class StreakServiceTwoInstanceTest {
+
+    private static final String EMAIL = "streak-two-instance@jipjung.com";
+
+    @Autowired
+    private StreakService instanceA;
+    @Autowired
+    private DailyActivityMapper dailyActivityMapper;
+    @Autowired
+    private StreakHistoryMapper streakHistoryMapper;
+    @Autowired
+    private StreakMilestoneRewardMapper milestoneRewardMapper;
+    @Autowired
+    private UserMapper userMapper;
+    @Autowired
+    private CollectionService collectionService;
+    @Autowired
+    private Clock clock;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private StreakService instanceB;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        instanceB = new StreakService(dailyActivityMapper, streakHistoryMapper, milestoneRewardMapper, userMapper,
+                collectionService, new DailyActivityCounter(dailyActivityMapper, clock, true), clock);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("INSERT INTO `user` (email, nickname, current_exp, current_level) VALUES (?, ?, 0, 1)",
+                EMAIL, "streak");
+        userId = jdbcTemplate.queryForObject("SELECT user_id FROM `user` WHERE email = ?", Long.class, EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM daily_activity WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM streak_history WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM `user` WHERE user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 기록 후 EXP가 줄어 이전 값과 같아져도 오늘 EXP 합계를 정확히 이어간다")
+    void dailyExpSurvivesInterleavingAndExpDecrease() {
+        LocalDate today = LocalDate.now(clock);
+
+        instanceA.participate(userId, ActivityType.DASHBOARD);                                   // A: +10
+        transactionTemplate.executeWithoutResult(status ->
+                instanceB.participate(userId, ActivityType.AI_ANALYSIS));                        // B: +30
+        userMapper.addExp(userId, -30);                                                          // current_exp 40 -> 10
+        instanceA.participate(userId, ActivityType.SAVINGS);                                     // A: +20
+
+        User user = userMapper.findById(userId);
+        Integer activityExpSum = jdbcTemplate.queryForObject(
+                "SELECT SUM(exp_earned) FROM daily_activity WHERE user_id = ? AND activity_date = ?",
+                Integer.class, userId, today);
+
+        assertThat(activityExpSum).isEqualTo(60);
+        assertThat(user.getDailyExp()).isEqualTo(60);
+        assertThat(user.getDailyExpDate()).isEqualTo(today);
+        assertThat(user.getCurrentExp()).isEqualTo(30);
+    }
+}